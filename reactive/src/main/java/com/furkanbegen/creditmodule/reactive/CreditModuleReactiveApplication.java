@@ -0,0 +1,12 @@
+package com.furkanbegen.creditmodule.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class CreditModuleReactiveApplication {
+
+  public static void main(String[] args) {
+    SpringApplication.run(CreditModuleReactiveApplication.class, args);
+  }
+}
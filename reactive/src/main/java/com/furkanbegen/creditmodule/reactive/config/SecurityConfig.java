@@ -0,0 +1,76 @@
+package com.furkanbegen.creditmodule.reactive.config;
+
+import com.furkanbegen.creditmodule.reactive.security.CustomJwtAuthenticationConverter;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * Mirrors the servlet {@code SecurityConfig} as a JWT resource server. Tokens are issued by the
+ * servlet application's login endpoint, so both must share {@code jwt.key}. Revocation is kept in
+ * the servlet application's memory and is not seen here, so the decoder is only created when {@code
+ * app.security.ignore-token-revocation} is set.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+public class SecurityConfig {
+
+  @Value("${jwt.key}")
+  private String jwtKey;
+
+  @Value("${app.security.ignore-token-revocation:false}")
+  private boolean ignoreTokenRevocation;
+
+  private final CustomJwtAuthenticationConverter customJwtAuthenticationConverter;
+
+  public SecurityConfig(CustomJwtAuthenticationConverter customJwtAuthenticationConverter) {
+    this.customJwtAuthenticationConverter = customJwtAuthenticationConverter;
+  }
+
+  @Bean
+  public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+    return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+        .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+        .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+        .authorizeExchange(
+            exchanges ->
+                exchanges
+                    .pathMatchers("/actuator/health", "/actuator/prometheus")
+                    .permitAll()
+                    .pathMatchers("/api/v1/**")
+                    .authenticated()
+                    .anyExchange()
+                    .authenticated())
+        .oauth2ResourceServer(
+            oauth2ResourceServer ->
+                oauth2ResourceServer.jwt(
+                    jwt -> jwt.jwtAuthenticationConverter(customJwtAuthenticationConverter)))
+        // Stateless, like SessionCreationPolicy.STATELESS in the servlet application
+        .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+        .build();
+  }
+
+  @Bean
+  public ReactiveJwtDecoder jwtDecoder() {
+    if (!ignoreTokenRevocation) {
+      throw new IllegalStateException(
+          "Tokens revoked by the servlet application would be accepted, set"
+              + " app.security.ignore-token-revocation=true to run anyway");
+    }
+    var bytes = jwtKey.getBytes();
+    var originalKey = new SecretKeySpec(bytes, 0, bytes.length, MacAlgorithm.HS512.getName());
+    return NimbusReactiveJwtDecoder.withSecretKey(originalKey)
+        .macAlgorithm(MacAlgorithm.HS512)
+        .build();
+  }
+}
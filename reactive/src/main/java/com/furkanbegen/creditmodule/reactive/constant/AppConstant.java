@@ -0,0 +1,8 @@
+package com.furkanbegen.creditmodule.reactive.constant;
+
+public class AppConstant {
+
+  private AppConstant() {}
+
+  public static final String API_BASE_PATH = "api/v1";
+}
@@ -0,0 +1,59 @@
+package com.furkanbegen.creditmodule.reactive.controller;
+
+import static com.furkanbegen.creditmodule.reactive.constant.AppConstant.API_BASE_PATH;
+
+import com.furkanbegen.creditmodule.reactive.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.reactive.dto.LoanFilterDTO;
+import com.furkanbegen.creditmodule.reactive.dto.LoanInstallmentDTO;
+import com.furkanbegen.creditmodule.reactive.dto.LoanPaymentRequest;
+import com.furkanbegen.creditmodule.reactive.dto.LoanPaymentResponse;
+import com.furkanbegen.creditmodule.reactive.dto.LoanResponseDTO;
+import com.furkanbegen.creditmodule.reactive.service.LoanService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The v1 loan contract of the servlet application on WebFlux. Lists are streamed as JSON arrays
+ * while the rows are read, instead of being collected first.
+ */
+@RestController
+@RequestMapping(API_BASE_PATH + "/customers/{customerId}/loans")
+@RequiredArgsConstructor
+public class LoanController {
+
+  private final LoanService loanService;
+
+  @PostMapping
+  @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
+  public Mono<LoanResponseDTO> createLoan(
+      @PathVariable Long customerId, @Valid @RequestBody CreateLoanRequest request) {
+    return loanService.createLoan(customerId, request);
+  }
+
+  @GetMapping
+  @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
+  public Flux<LoanResponseDTO> getLoans(
+      @PathVariable Long customerId, @ModelAttribute LoanFilterDTO filter) {
+    return loanService.getLoans(customerId, filter);
+  }
+
+  @GetMapping("/{loanId}/installments")
+  @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
+  public Flux<LoanInstallmentDTO> getInstallments(
+      @PathVariable Long customerId, @PathVariable Long loanId) {
+    return loanService.getInstallments(customerId, loanId);
+  }
+
+  @PostMapping("/{loanId}/pay")
+  @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
+  public Mono<LoanPaymentResponse> payLoan(
+      @PathVariable Long customerId,
+      @PathVariable Long loanId,
+      @Valid @RequestBody LoanPaymentRequest request) {
+    return loanService.payLoan(customerId, loanId, request);
+  }
+}
@@ -0,0 +1,19 @@
+package com.furkanbegen.creditmodule.reactive.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ErrorResponse {
+  private LocalDateTime timestamp;
+  private int status;
+  private String error;
+  private List<String> messages;
+}
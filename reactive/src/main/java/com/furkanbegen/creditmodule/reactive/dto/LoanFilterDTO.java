@@ -0,0 +1,11 @@
+package com.furkanbegen.creditmodule.reactive.dto;
+
+import com.furkanbegen.creditmodule.reactive.model.InstallmentOption;
+import lombok.Data;
+
+@Data
+public class LoanFilterDTO {
+  private Boolean isPaid;
+  private InstallmentOption numberOfInstallment;
+  private Boolean isOverdue;
+}
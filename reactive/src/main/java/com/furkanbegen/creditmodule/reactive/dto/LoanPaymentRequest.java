@@ -0,0 +1,13 @@
+package com.furkanbegen.creditmodule.reactive.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import lombok.Data;
+
+@Data
+public class LoanPaymentRequest {
+  @NotNull(message = "Payment amount is required")
+  @DecimalMin(value = "0.01", message = "Payment amount must be greater than 0")
+  private BigDecimal paymentAmount;
+}
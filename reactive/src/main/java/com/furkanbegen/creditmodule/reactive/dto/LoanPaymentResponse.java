@@ -0,0 +1,15 @@
+package com.furkanbegen.creditmodule.reactive.dto;
+
+import java.math.BigDecimal;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LoanPaymentResponse {
+  private int numberOfInstallmentsPaid;
+  private BigDecimal totalAmountPaid;
+  private boolean isLoanFullyPaid;
+  private BigDecimal totalDiscount;
+  private BigDecimal totalPenalty;
+}
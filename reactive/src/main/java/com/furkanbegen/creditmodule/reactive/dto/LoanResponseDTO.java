@@ -0,0 +1,17 @@
+package com.furkanbegen.creditmodule.reactive.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class LoanResponseDTO {
+  private Long id;
+  private Long customerId;
+  private BigDecimal loanAmount;
+  private BigDecimal totalAmount;
+  private Integer numberOfInstallment;
+  private LocalDateTime createDate;
+  private List<LoanInstallmentDTO> installments;
+}
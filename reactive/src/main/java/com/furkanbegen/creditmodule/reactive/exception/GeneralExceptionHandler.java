@@ -0,0 +1,60 @@
+package com.furkanbegen.creditmodule.reactive.exception;
+
+import com.furkanbegen.creditmodule.reactive.dto.ErrorResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+/** Same statuses and bodies as the servlet application's handler. */
+@RestControllerAdvice
+public class GeneralExceptionHandler {
+
+  private GeneralExceptionHandler() {}
+
+  @ExceptionHandler(WebExchangeBindException.class)
+  static ResponseEntity<ErrorResponse> resolveWebExchangeBindException(
+      final WebExchangeBindException ex) {
+    List<String> messages =
+        ex.getBindingResult().getAllErrors().stream().map(ObjectError::getDefaultMessage).toList();
+    return response(HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.getReasonPhrase(), messages);
+  }
+
+  @ExceptionHandler(ResourceNotFoundException.class)
+  static ResponseEntity<ErrorResponse> resolveResourceNotFoundException(
+      final ResourceNotFoundException ex) {
+    return response(
+        HttpStatus.NOT_FOUND, HttpStatus.NOT_FOUND.getReasonPhrase(), List.of(ex.getMessage()));
+  }
+
+  @ExceptionHandler(InsufficientCreditLimitException.class)
+  static ResponseEntity<ErrorResponse> resolveInsufficientCreditLimitException(
+      final InsufficientCreditLimitException ex) {
+    return response(
+        HttpStatus.INTERNAL_SERVER_ERROR,
+        HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+        List.of(ex.getMessage()));
+  }
+
+  @ExceptionHandler(IllegalStateException.class)
+  static ResponseEntity<ErrorResponse> resolveIllegalStateException(
+      final IllegalStateException ex) {
+    return response(HttpStatus.BAD_REQUEST, "Invalid Operation", List.of(ex.getMessage()));
+  }
+
+  private static ResponseEntity<ErrorResponse> response(
+      HttpStatus status, String error, List<String> messages) {
+    return ResponseEntity.status(status)
+        .body(
+            ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(error)
+                .messages(messages)
+                .build());
+  }
+}
@@ -0,0 +1,7 @@
+package com.furkanbegen.creditmodule.reactive.exception;
+
+public class InsufficientCreditLimitException extends RuntimeException {
+  public InsufficientCreditLimitException(String message) {
+    super(message);
+  }
+}
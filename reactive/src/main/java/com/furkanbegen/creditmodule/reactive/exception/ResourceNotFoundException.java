@@ -0,0 +1,8 @@
+package com.furkanbegen.creditmodule.reactive.exception;
+
+/** Counterpart of the JPA {@code EntityNotFoundException} thrown by the servlet application. */
+public class ResourceNotFoundException extends RuntimeException {
+  public ResourceNotFoundException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,75 @@
+package com.furkanbegen.creditmodule.reactive.mapper;
+
+import com.furkanbegen.creditmodule.reactive.dto.LoanInstallmentDTO;
+import com.furkanbegen.creditmodule.reactive.dto.LoanResponseDTO;
+import com.furkanbegen.creditmodule.reactive.model.Loan;
+import com.furkanbegen.creditmodule.reactive.model.LoanInstallment;
+import com.furkanbegen.creditmodule.reactive.repository.LoanInstallmentRow;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoanMapper {
+
+  /** Maps a saved loan and its installments, which are already ordered by due date. */
+  public LoanResponseDTO toDTO(Loan loan, List<LoanInstallment> installments) {
+    var dto = new LoanResponseDTO();
+    dto.setId(loan.getId());
+    dto.setCustomerId(loan.getCustomerId());
+    dto.setLoanAmount(loan.getLoanAmount());
+    dto.setNumberOfInstallment(loan.getNumberOfInstallment());
+    dto.setCreateDate(loan.getCreateDate());
+    List<LoanInstallmentDTO> dtos = new ArrayList<>(installments.size());
+    for (LoanInstallment installment : installments) {
+      dtos.add(toInstallmentDTO(installment));
+    }
+    dto.setInstallments(dtos);
+    return dto;
+  }
+
+  /** Maps the rows of one loan, ordered by due date, into a single DTO. */
+  public LoanResponseDTO toDTO(List<LoanInstallmentRow> rows) {
+    LoanInstallmentRow first = rows.get(0);
+    var dto = new LoanResponseDTO();
+    dto.setId(first.loanId());
+    dto.setCustomerId(first.customerId());
+    dto.setLoanAmount(first.loanAmount());
+    dto.setNumberOfInstallment(first.numberOfInstallment());
+    dto.setCreateDate(first.createDate());
+    List<LoanInstallmentDTO> dtos = new ArrayList<>(rows.size());
+    for (LoanInstallmentRow row : rows) {
+      if (row.installmentId() != null) {
+        dtos.add(toInstallmentDTO(row));
+      }
+    }
+    dto.setInstallments(dtos);
+    return dto;
+  }
+
+  public LoanInstallmentDTO toInstallmentDTO(LoanInstallment installment) {
+    var dto = new LoanInstallmentDTO();
+    dto.setId(installment.getId());
+    dto.setAmount(installment.getAmount());
+    dto.setPaidAmount(installment.getPaidAmount());
+    dto.setDueDate(installment.getDueDate());
+    dto.setPaymentDate(installment.getPaymentDate());
+    dto.setIsPaid(installment.getIsPaid());
+    dto.setAccruedPenalty(installment.getAccruedPenalty());
+    dto.setDaysLate(installment.getDaysLate());
+    return dto;
+  }
+
+  public LoanInstallmentDTO toInstallmentDTO(LoanInstallmentRow row) {
+    var dto = new LoanInstallmentDTO();
+    dto.setId(row.installmentId());
+    dto.setAmount(row.amount());
+    dto.setPaidAmount(row.paidAmount());
+    dto.setDueDate(row.dueDate());
+    dto.setPaymentDate(row.paymentDate());
+    dto.setIsPaid(row.isPaid());
+    dto.setAccruedPenalty(row.accruedPenalty());
+    dto.setDaysLate(row.daysLate());
+    return dto;
+  }
+}
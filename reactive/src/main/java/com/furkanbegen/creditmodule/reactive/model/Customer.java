@@ -0,0 +1,33 @@
+package com.furkanbegen.creditmodule.reactive.model;
+
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+/** Row of {@code customers}; the version column is shared with the servlet application. */
+@Getter
+@Setter
+@ToString
+@Table("customers")
+public class Customer {
+
+  @Id private Long id;
+
+  private String name;
+
+  private String surname;
+
+  private BigDecimal creditLimit;
+
+  private BigDecimal usedCreditLimit;
+
+  private Integer dueDayOfMonth;
+
+  private Long userId;
+
+  @Version private Long version;
+}
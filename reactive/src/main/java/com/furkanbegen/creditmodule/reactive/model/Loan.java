@@ -0,0 +1,37 @@
+package com.furkanbegen.creditmodule.reactive.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Row of {@code loans}. R2DBC has no associations, so the customer and the installments are
+ * referenced by id and loaded with their own queries.
+ */
+@Getter
+@Setter
+@ToString
+@Table("loans")
+public class Loan {
+
+  @Id private Long id;
+
+  private Long customerId;
+
+  private BigDecimal loanAmount;
+
+  private BigDecimal interestRate;
+
+  private Integer numberOfInstallment;
+
+  private LocalDateTime createDate;
+
+  private Boolean isPaid;
+
+  @Version private Long version;
+}
@@ -0,0 +1,39 @@
+package com.furkanbegen.creditmodule.reactive.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Getter
+@Setter
+@ToString
+@Table("loan_installments")
+public class LoanInstallment {
+
+  @Id private Long id;
+
+  private Long loanId;
+
+  private BigDecimal amount;
+
+  private BigDecimal paidAmount;
+
+  private LocalDateTime dueDate;
+
+  private LocalDateTime paymentDate;
+
+  private Boolean isPaid;
+
+  private BigDecimal accruedPenalty;
+
+  private Integer daysLate;
+
+  private LocalDateTime penaltyAccruedAt;
+
+  @Version private Long version;
+}
@@ -0,0 +1,12 @@
+package com.furkanbegen.creditmodule.reactive.repository;
+
+import com.furkanbegen.creditmodule.reactive.model.Customer;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface CustomerRepository extends R2dbcRepository<Customer, Long> {
+
+  Mono<Customer> findByUserId(Long userId);
+}
@@ -0,0 +1,12 @@
+package com.furkanbegen.creditmodule.reactive.repository;
+
+import com.furkanbegen.creditmodule.reactive.model.LoanInstallment;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface LoanInstallmentRepository extends R2dbcRepository<LoanInstallment, Long> {
+
+  Flux<LoanInstallment> findByLoanIdOrderByDueDateAsc(Long loanId);
+}
@@ -0,0 +1,23 @@
+package com.furkanbegen.creditmodule.reactive.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of a loan joined with one of its installments. The installment columns are null for a
+ * loan without installments.
+ */
+public record LoanInstallmentRow(
+    Long loanId,
+    Long customerId,
+    BigDecimal loanAmount,
+    Integer numberOfInstallment,
+    LocalDateTime createDate,
+    Long installmentId,
+    BigDecimal amount,
+    BigDecimal paidAmount,
+    LocalDateTime dueDate,
+    LocalDateTime paymentDate,
+    Boolean isPaid,
+    BigDecimal accruedPenalty,
+    Integer daysLate) {}
@@ -0,0 +1,12 @@
+package com.furkanbegen.creditmodule.reactive.repository;
+
+import com.furkanbegen.creditmodule.reactive.model.Loan;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface LoanRepository extends R2dbcRepository<Loan, Long> {
+
+  Mono<Loan> findByIdAndCustomerId(Long id, Long customerId);
+}
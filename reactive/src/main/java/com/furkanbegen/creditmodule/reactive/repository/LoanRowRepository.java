@@ -0,0 +1,96 @@
+package com.furkanbegen.creditmodule.reactive.repository;
+
+import io.r2dbc.spi.Readable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Loans joined with their installments as flat rows, the same single query the servlet application
+ * runs for its list endpoints. Rows are ordered by loan so they can be grouped while they stream
+ * in.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoanRowRepository {
+
+  private static final String SELECT_ROWS =
+      """
+      SELECT l.id AS loan_id, l.customer_id, l.loan_amount, l.number_of_installment,
+          l.create_date, i.id AS installment_id, i.amount, i.paid_amount, i.due_date,
+          i.payment_date, i.is_paid, i.accrued_penalty, i.days_late
+      FROM loans l
+      LEFT JOIN loan_installments i ON i.loan_id = l.id
+      """;
+
+  private final DatabaseClient databaseClient;
+
+  /** Only the filters that are set become predicates, so no null parameter has to be typed. */
+  public Flux<LoanInstallmentRow> findLoanRowsWithFilters(
+      Long customerId,
+      Boolean isPaid,
+      Integer numberOfInstallment,
+      Boolean isOverdue,
+      LocalDateTime currentDate) {
+    StringBuilder sql = new StringBuilder(SELECT_ROWS).append("WHERE l.customer_id = :customerId");
+    if (isPaid != null) {
+      sql.append(" AND l.is_paid = :isPaid");
+    }
+    if (numberOfInstallment != null) {
+      sql.append(" AND l.number_of_installment = :numberOfInstallment");
+    }
+    if (Boolean.TRUE.equals(isOverdue)) {
+      sql.append(
+          " AND EXISTS (SELECT 1 FROM loan_installments li WHERE li.loan_id = l.id"
+              + " AND li.is_paid = false AND li.due_date < :currentDate)");
+    } else if (isOverdue != null) {
+      // Same result as the servlet query, which matches no loan for isOverdue=false
+      sql.append(" AND 1 = 0");
+    }
+    sql.append(" ORDER BY l.id, i.due_date");
+
+    DatabaseClient.GenericExecuteSpec spec =
+        databaseClient.sql(sql.toString()).bind("customerId", customerId);
+    if (isPaid != null) {
+      spec = spec.bind("isPaid", isPaid);
+    }
+    if (numberOfInstallment != null) {
+      spec = spec.bind("numberOfInstallment", numberOfInstallment);
+    }
+    if (Boolean.TRUE.equals(isOverdue)) {
+      spec = spec.bind("currentDate", currentDate);
+    }
+    return spec.map(LoanRowRepository::toRow).all();
+  }
+
+  public Flux<LoanInstallmentRow> findLoanRowsByIdAndCustomerId(Long loanId, Long customerId) {
+    return databaseClient
+        .sql(
+            SELECT_ROWS
+                + "WHERE l.id = :loanId AND l.customer_id = :customerId ORDER BY i.due_date")
+        .bind("loanId", loanId)
+        .bind("customerId", customerId)
+        .map(LoanRowRepository::toRow)
+        .all();
+  }
+
+  private static LoanInstallmentRow toRow(Readable row) {
+    return new LoanInstallmentRow(
+        row.get("loan_id", Long.class),
+        row.get("customer_id", Long.class),
+        row.get("loan_amount", BigDecimal.class),
+        row.get("number_of_installment", Integer.class),
+        row.get("create_date", LocalDateTime.class),
+        row.get("installment_id", Long.class),
+        row.get("amount", BigDecimal.class),
+        row.get("paid_amount", BigDecimal.class),
+        row.get("due_date", LocalDateTime.class),
+        row.get("payment_date", LocalDateTime.class),
+        row.get("is_paid", Boolean.class),
+        row.get("accrued_penalty", BigDecimal.class),
+        row.get("days_late", Integer.class));
+  }
+}
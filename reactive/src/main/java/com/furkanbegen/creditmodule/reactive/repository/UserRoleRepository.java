@@ -0,0 +1,23 @@
+package com.furkanbegen.creditmodule.reactive.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRoleRepository {
+
+  private final DatabaseClient databaseClient;
+
+  public Flux<String> findRoleNamesByUserId(Long userId) {
+    return databaseClient
+        .sql(
+            "SELECT r.name FROM user_roles ur JOIN roles r ON r.id = ur.role_id"
+                + " WHERE ur.user_id = :userId")
+        .bind("userId", userId)
+        .map(row -> row.get("name", String.class))
+        .all();
+  }
+}
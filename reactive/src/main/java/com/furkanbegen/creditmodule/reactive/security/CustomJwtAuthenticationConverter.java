@@ -0,0 +1,38 @@
+package com.furkanbegen.creditmodule.reactive.security;
+
+import com.furkanbegen.creditmodule.reactive.repository.UserRoleRepository;
+import java.util.List;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/** Loads the user's roles from the database, like the servlet converter, without blocking. */
+@Component
+public class CustomJwtAuthenticationConverter
+    implements Converter<Jwt, Mono<AbstractAuthenticationToken>> {
+
+  private final UserRoleRepository userRoleRepository;
+
+  public CustomJwtAuthenticationConverter(UserRoleRepository userRoleRepository) {
+    this.userRoleRepository = userRoleRepository;
+  }
+
+  @Override
+  public Mono<AbstractAuthenticationToken> convert(Jwt jwt) {
+    Long userId = jwt.getClaim("user_id");
+    if (userId == null) {
+      return Mono.just(new JwtAuthenticationToken(jwt, List.of(), jwt.getSubject()));
+    }
+
+    return userRoleRepository
+        .findRoleNamesByUserId(userId)
+        .<GrantedAuthority>map(name -> new SimpleGrantedAuthority(name.toUpperCase()))
+        .collectList()
+        .map(authorities -> new JwtAuthenticationToken(jwt, authorities, jwt.getSubject()));
+  }
+}
@@ -0,0 +1,43 @@
+package com.furkanbegen.creditmodule.reactive.security;
+
+import com.furkanbegen.creditmodule.reactive.repository.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same ownership rule as the servlet evaluator. {@code @PreAuthorize} on reactive methods accepts
+ * the {@code Mono<Boolean>}, so the customer lookup does not block.
+ */
+@Component("customerSecurity")
+@RequiredArgsConstructor
+public class CustomerSecurityEvaluator {
+
+  private final CustomerRepository customerRepository;
+
+  public Mono<Boolean> hasAccess(Authentication authentication, Long customerId) {
+    if (authentication == null || !authentication.isAuthenticated()) {
+      return Mono.just(false);
+    }
+
+    // Admin has access to all customers
+    if (authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN"))) {
+      return Mono.just(true);
+    }
+
+    // For CUSTOMER role, check if the customer belongs to the authenticated user
+    if (authentication.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_CUSTOMER"))
+        && authentication.getPrincipal() instanceof Jwt jwt
+        && jwt.getClaim("user_id") instanceof Long userId) {
+      return customerRepository
+          .findByUserId(userId)
+          .map(customer -> customerId.equals(customer.getId()))
+          .defaultIfEmpty(false);
+    }
+
+    return Mono.just(false);
+  }
+}
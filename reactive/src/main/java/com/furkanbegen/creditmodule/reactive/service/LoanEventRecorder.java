@@ -0,0 +1,109 @@
+package com.furkanbegen.creditmodule.reactive.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.furkanbegen.creditmodule.reactive.dto.LoanPaymentResponse;
+import com.furkanbegen.creditmodule.reactive.model.Loan;
+import com.furkanbegen.creditmodule.reactive.model.LoanInstallment;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Appends the same {@code loan_events} and {@code outbox_events} rows as the servlet application's
+ * ledger and outbox, inside the caller's transaction. Snapshots are left to the servlet ledger,
+ * which folds every event after the latest snapshot when it reads a loan.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanEventRecorder {
+
+  public static final String LOAN_CREATED = "loan.created";
+  public static final String LOAN_PAID = "loan.paid";
+
+  private final DatabaseClient databaseClient;
+  private final ObjectMapper objectMapper;
+
+  public Mono<Void> loanCreated(Loan loan) {
+    ObjectNode payload = payload(loan);
+    payload.put("loanAmount", loan.getLoanAmount());
+    payload.put("numberOfInstallment", loan.getNumberOfInstallment());
+    payload.put("createDate", loan.getCreateDate().toString());
+    return appendEvent(loan, new Event("CREATED", null, loan.getLoanAmount()), loan.getCreateDate())
+        .then(appendOutbox(LOAN_CREATED, loan, payload));
+  }
+
+  public Mono<Void> loanPaid(
+      Loan loan, List<LoanInstallment> settled, LoanPaymentResponse payment, LocalDateTime paidAt) {
+    List<Event> events = new ArrayList<>(settled.size() * 2 + 1);
+    for (LoanInstallment installment : settled) {
+      events.add(new Event("INSTALLMENT_SETTLED", installment.getId(), installment.getAmount()));
+      BigDecimal adjustment = installment.getPaidAmount().subtract(installment.getAmount());
+      if (adjustment.signum() < 0) {
+        events.add(new Event("DISCOUNT", installment.getId(), adjustment.abs()));
+      } else if (adjustment.signum() > 0) {
+        events.add(new Event("PENALTY", installment.getId(), adjustment));
+      }
+    }
+    if (loan.getIsPaid()) {
+      events.add(new Event("PAYOFF", null, loan.getLoanAmount()));
+    }
+
+    ObjectNode payload = payload(loan);
+    payload.put("numberOfInstallmentsPaid", payment.getNumberOfInstallmentsPaid());
+    payload.put("totalAmountPaid", payment.getTotalAmountPaid());
+    payload.put("totalDiscount", payment.getTotalDiscount());
+    payload.put("totalPenalty", payment.getTotalPenalty());
+    payload.put("isLoanFullyPaid", payment.isLoanFullyPaid());
+
+    // One at a time, so the event ids follow the order the installments were paid in
+    return Flux.fromIterable(events)
+        .concatMap(event -> appendEvent(loan, event, paidAt))
+        .then(appendOutbox(LOAN_PAID, loan, payload));
+  }
+
+  private ObjectNode payload(Loan loan) {
+    ObjectNode payload = objectMapper.createObjectNode();
+    payload.put("loanId", loan.getId());
+    payload.put("customerId", loan.getCustomerId());
+    return payload;
+  }
+
+  private Mono<Void> appendEvent(Loan loan, Event event, LocalDateTime occurredAt) {
+    DatabaseClient.GenericExecuteSpec spec =
+        databaseClient
+            .sql(
+                "INSERT INTO loan_events (loan_id, event_type, installment_id, amount, occurred_at)"
+                    + " VALUES (:loanId, :eventType, :installmentId, :amount, :occurredAt)")
+            .bind("loanId", loan.getId())
+            .bind("eventType", event.type())
+            .bind("amount", event.amount())
+            .bind("occurredAt", occurredAt);
+    spec =
+        event.installmentId() != null
+            ? spec.bind("installmentId", event.installmentId())
+            : spec.bindNull("installmentId", Long.class);
+    return spec.then();
+  }
+
+  private Mono<Void> appendOutbox(String type, Loan loan, ObjectNode payload) {
+    return databaseClient
+        .sql(
+            "INSERT INTO outbox_events (event_type, loan_id, customer_id, payload, created_at)"
+                + " VALUES (:eventType, :loanId, :customerId, :payload, :createdAt)")
+        .bind("eventType", type)
+        .bind("loanId", loan.getId())
+        .bind("customerId", loan.getCustomerId())
+        .bind("payload", payload.toString())
+        .bind("createdAt", LocalDateTime.now())
+        .then();
+  }
+
+  private record Event(String type, Long installmentId, BigDecimal amount) {}
+}
@@ -0,0 +1,286 @@
+package com.furkanbegen.creditmodule.reactive.service;
+
+import com.furkanbegen.creditmodule.reactive.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.reactive.dto.LoanFilterDTO;
+import com.furkanbegen.creditmodule.reactive.dto.LoanInstallmentDTO;
+import com.furkanbegen.creditmodule.reactive.dto.LoanPaymentRequest;
+import com.furkanbegen.creditmodule.reactive.dto.LoanPaymentResponse;
+import com.furkanbegen.creditmodule.reactive.dto.LoanResponseDTO;
+import com.furkanbegen.creditmodule.reactive.exception.InsufficientCreditLimitException;
+import com.furkanbegen.creditmodule.reactive.exception.ResourceNotFoundException;
+import com.furkanbegen.creditmodule.reactive.mapper.LoanMapper;
+import com.furkanbegen.creditmodule.reactive.model.Customer;
+import com.furkanbegen.creditmodule.reactive.model.Loan;
+import com.furkanbegen.creditmodule.reactive.model.LoanInstallment;
+import com.furkanbegen.creditmodule.reactive.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.reactive.repository.LoanInstallmentRepository;
+import com.furkanbegen.creditmodule.reactive.repository.LoanInstallmentRow;
+import com.furkanbegen.creditmodule.reactive.repository.LoanRepository;
+import com.furkanbegen.creditmodule.reactive.repository.LoanRowRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the servlet {@code LoanService}, with the same validation, amounts
+ * and error messages. Installments are always due on the first day of the month, the servlet
+ * application's default due date policy.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoanService {
+
+  private final CustomerRepository customerRepository;
+  private final LoanRepository loanRepository;
+  private final LoanInstallmentRepository loanInstallmentRepository;
+  private final LoanRowRepository loanRowRepository;
+  private final LoanEventRecorder loanEventRecorder;
+  private final LoanMapper loanMapper;
+
+  private static final BigDecimal DAILY_RATE = BigDecimal.valueOf(0.001);
+  private static final int MAX_MONTHS_AHEAD = 3;
+
+  @Transactional
+  public Mono<LoanResponseDTO> createLoan(Long customerId, CreateLoanRequest request) {
+    return customerRepository
+        .findById(customerId)
+        .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Customer not found")))
+        .flatMap(customer -> createLoan(customer, request));
+  }
+
+  private Mono<LoanResponseDTO> createLoan(Customer customer, CreateLoanRequest request) {
+    LocalDateTime createDate = LocalDateTime.now();
+    int numberOfInstallment = request.getNumberOfInstallment().getValue();
+    BigDecimal loanAmountWithInterest =
+        request
+            .getLoanAmount()
+            .multiply(BigDecimal.ONE.add(request.getInterestRate()))
+            .setScale(2, RoundingMode.HALF_UP);
+    BigDecimal installmentAmount =
+        loanAmountWithInterest.divide(
+            BigDecimal.valueOf(numberOfInstallment), 2, RoundingMode.HALF_UP);
+
+    // Check credit limit against the total amount
+    BigDecimal availableCredit = customer.getCreditLimit().subtract(customer.getUsedCreditLimit());
+    if (availableCredit.compareTo(loanAmountWithInterest) < 0) {
+      return Mono.error(new InsufficientCreditLimitException("Insufficient credit limit"));
+    }
+
+    Loan loan = new Loan();
+    loan.setCustomerId(customer.getId());
+    loan.setLoanAmount(loanAmountWithInterest); // Store the total amount including interest
+    loan.setNumberOfInstallment(numberOfInstallment);
+    loan.setInterestRate(request.getInterestRate());
+    loan.setCreateDate(createDate);
+    loan.setIsPaid(false);
+
+    // The version check on the customer row turns concurrent loans of one customer into a
+    // conflict instead of exceeding the credit limit
+    customer.setUsedCreditLimit(customer.getUsedCreditLimit().add(loanAmountWithInterest));
+    LocalDateTime firstDueDate =
+        createDate.plusMonths(1).withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+
+    return customerRepository
+        .save(customer)
+        .then(loanRepository.save(loan))
+        .flatMap(
+            saved ->
+                loanInstallmentRepository
+                    .saveAll(installments(saved, installmentAmount, firstDueDate))
+                    .collectList()
+                    .flatMap(
+                        installments ->
+                            loanEventRecorder
+                                .loanCreated(saved)
+                                .thenReturn(loanMapper.toDTO(saved, installments))));
+  }
+
+  private static List<LoanInstallment> installments(
+      Loan loan, BigDecimal installmentAmount, LocalDateTime firstDueDate) {
+    List<LoanInstallment> installments = new ArrayList<>(loan.getNumberOfInstallment());
+    for (int i = 0; i < loan.getNumberOfInstallment(); i++) {
+      LoanInstallment installment = new LoanInstallment();
+      installment.setLoanId(loan.getId());
+      installment.setAmount(installmentAmount);
+      installment.setPaidAmount(BigDecimal.ZERO);
+      installment.setDueDate(firstDueDate.plusMonths(i));
+      installment.setIsPaid(false);
+      installments.add(installment);
+    }
+    return installments;
+  }
+
+  /** Streams one DTO per loan, grouped from the rows as they arrive. */
+  @Transactional(readOnly = true)
+  public Flux<LoanResponseDTO> getLoans(Long customerId, LoanFilterDTO filter) {
+    return customerRepository
+        .existsById(customerId)
+        .flatMapMany(
+            exists -> {
+              if (!exists) {
+                return Flux.error(new ResourceNotFoundException("Customer not found"));
+              }
+              return loanRowRepository.findLoanRowsWithFilters(
+                  customerId,
+                  filter != null ? filter.getIsPaid() : null,
+                  filter != null && filter.getNumberOfInstallment() != null
+                      ? filter.getNumberOfInstallment().getValue()
+                      : null,
+                  filter != null ? filter.getIsOverdue() : null,
+                  LocalDateTime.now());
+            })
+        .bufferUntilChanged(LoanInstallmentRow::loanId)
+        .map(loanMapper::toDTO);
+  }
+
+  @Transactional(readOnly = true)
+  public Flux<LoanInstallmentDTO> getInstallments(Long customerId, Long loanId) {
+    return loanRowRepository
+        .findLoanRowsByIdAndCustomerId(loanId, customerId)
+        .switchIfEmpty(Flux.error(() -> loanNotFound(customerId, loanId)))
+        .filter(row -> row.installmentId() != null)
+        .map(loanMapper::toInstallmentDTO);
+  }
+
+  @Transactional
+  public Mono<LoanPaymentResponse> payLoan(
+      Long customerId, Long loanId, LoanPaymentRequest request) {
+    return loanRepository
+        .findByIdAndCustomerId(loanId, customerId)
+        .switchIfEmpty(Mono.error(() -> loanNotFound(customerId, loanId)))
+        .flatMap(
+            loan ->
+                loanInstallmentRepository
+                    .findByLoanIdOrderByDueDateAsc(loanId)
+                    .collectList()
+                    .flatMap(installments -> payLoan(loan, installments, request)));
+  }
+
+  private Mono<LoanPaymentResponse> payLoan(
+      Loan loan, List<LoanInstallment> installments, LoanPaymentRequest request) {
+    if (loan.getIsPaid()) {
+      return Mono.error(new IllegalStateException("Loan is already fully paid"));
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    // Due up to MAX_MONTHS_AHEAD months from today, that day included, as in the servlet service
+    LocalDate lastPayableDay = now.toLocalDate().plusMonths(MAX_MONTHS_AHEAD);
+
+    // Already ordered by due date
+    List<LoanInstallment> payableInstallments =
+        installments.stream()
+            .filter(installment -> !installment.getIsPaid())
+            .filter(installment -> !installment.getDueDate().toLocalDate().isAfter(lastPayableDay))
+            .toList();
+
+    if (payableInstallments.isEmpty()) {
+      return Mono.error(new IllegalStateException("No payable installments found"));
+    }
+
+    BigDecimal remainingPayment = request.getPaymentAmount();
+    List<LoanInstallment> settled = new ArrayList<>(payableInstallments.size());
+    BigDecimal totalPaid = BigDecimal.ZERO;
+    BigDecimal totalDiscount = BigDecimal.ZERO;
+    BigDecimal totalPenalty = BigDecimal.ZERO;
+
+    for (LoanInstallment installment : payableInstallments) {
+      BigDecimal adjustedAmount =
+          calculateAdjustedAmount(installment.getAmount(), installment.getDueDate(), now);
+      if (remainingPayment.compareTo(adjustedAmount) < 0) {
+        break;
+      }
+
+      installment.setIsPaid(true);
+      installment.setPaidAmount(adjustedAmount);
+      installment.setPaymentDate(now);
+      // The penalty is settled in paidAmount, nothing is accrued on a paid installment
+      installment.setAccruedPenalty(null);
+      installment.setDaysLate(null);
+      installment.setPenaltyAccruedAt(null);
+
+      remainingPayment = remainingPayment.subtract(adjustedAmount);
+      settled.add(installment);
+      totalPaid = totalPaid.add(adjustedAmount);
+
+      // Calculate discount or penalty
+      BigDecimal adjustment = adjustedAmount.subtract(installment.getAmount());
+      if (adjustment.compareTo(BigDecimal.ZERO) < 0) {
+        totalDiscount = totalDiscount.add(adjustment.abs());
+      } else {
+        totalPenalty = totalPenalty.add(adjustment);
+      }
+    }
+
+    if (settled.isEmpty()) {
+      return Mono.error(
+          new IllegalArgumentException("Payment amount is insufficient for any installment"));
+    }
+
+    boolean isFullyPaid = installments.stream().allMatch(LoanInstallment::getIsPaid);
+    loan.setIsPaid(isFullyPaid);
+
+    LoanPaymentResponse response =
+        LoanPaymentResponse.builder()
+            .numberOfInstallmentsPaid(settled.size())
+            .totalAmountPaid(totalPaid)
+            .isLoanFullyPaid(isFullyPaid)
+            .totalDiscount(totalDiscount)
+            .totalPenalty(totalPenalty)
+            .build();
+
+    // Saving the loan bumps its version even when only installments changed, like the servlet
+    // application, so version based ETags there see the payment
+    return loanInstallmentRepository
+        .saveAll(settled)
+        .then(isFullyPaid ? releaseCredit(loan) : Mono.<Void>empty())
+        .then(loanRepository.save(loan))
+        .flatMap(saved -> loanEventRecorder.loanPaid(saved, settled, response, now))
+        .thenReturn(response);
+  }
+
+  private Mono<Void> releaseCredit(Loan loan) {
+    return customerRepository
+        .findById(loan.getCustomerId())
+        .flatMap(
+            customer -> {
+              customer.setUsedCreditLimit(
+                  customer.getUsedCreditLimit().subtract(loan.getLoanAmount()));
+              return customerRepository.save(customer);
+            })
+        .then();
+  }
+
+  private static BigDecimal calculateAdjustedAmount(
+      BigDecimal amount, LocalDateTime dueDate, LocalDateTime paymentDate) {
+    long daysDifference = ChronoUnit.DAYS.between(dueDate.toLocalDate(), paymentDate.toLocalDate());
+
+    if (daysDifference == 0) {
+      return amount;
+    }
+
+    BigDecimal adjustment =
+        amount.multiply(DAILY_RATE.multiply(BigDecimal.valueOf(Math.abs(daysDifference))));
+
+    if (daysDifference < 0) {
+      // Payment before due date - apply discount
+      return amount.subtract(adjustment);
+    } else {
+      // Payment after due date - apply penalty
+      return amount.add(adjustment);
+    }
+  }
+
+  private static ResourceNotFoundException loanNotFound(Long customerId, Long loanId) {
+    return new ResourceNotFoundException(
+        String.format("Loan not found with id: %d for customer: %d", loanId, customerId));
+  }
+}
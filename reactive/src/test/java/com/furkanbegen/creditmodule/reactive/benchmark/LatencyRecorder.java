@@ -0,0 +1,91 @@
+package com.furkanbegen.creditmodule.reactive.benchmark;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/** Collects response times of one scenario and summarizes them as throughput and percentiles. */
+class LatencyRecorder {
+
+  private final String variant;
+  private final String scenario;
+  private long[] latencies = new long[1024];
+  private int count;
+  private int errors;
+
+  LatencyRecorder(String variant, String scenario) {
+    this.variant = variant;
+    this.scenario = scenario;
+  }
+
+  synchronized void record(long nanos, boolean success) {
+    if (count == latencies.length) {
+      latencies = Arrays.copyOf(latencies, count * 2);
+    }
+    latencies[count++] = nanos;
+    if (!success) {
+      errors++;
+    }
+  }
+
+  synchronized Summary summarize(Duration elapsed) {
+    long[] sorted = Arrays.copyOf(latencies, count);
+    Arrays.sort(sorted);
+    return new Summary(
+        variant,
+        scenario,
+        count,
+        errors,
+        count / (elapsed.toMillis() / 1000.0),
+        percentile(sorted, 0.50),
+        percentile(sorted, 0.95),
+        percentile(sorted, 0.99),
+        count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+  }
+
+  private static double percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(index, 0)] / 1_000_000.0;
+  }
+
+  record Summary(
+      String variant,
+      String scenario,
+      int requests,
+      int errors,
+      double throughput,
+      double p50Millis,
+      double p95Millis,
+      double p99Millis,
+      double maxMillis) {
+
+    static final String HEADER =
+        String.format(
+            "%-9s %-13s %9s %7s %9s %9s %9s %9s %9s",
+            "variant",
+            "scenario",
+            "requests",
+            "errors",
+            "req/s",
+            "p50 ms",
+            "p95 ms",
+            "p99 ms",
+            "max ms");
+
+    String format() {
+      return String.format(
+          "%-9s %-13s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f",
+          variant,
+          scenario,
+          requests,
+          errors,
+          throughput,
+          p50Millis,
+          p95Millis,
+          p99Millis,
+          maxMillis);
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package com.furkanbegen.creditmodule.reactive.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Sends the same requests to the servlet application and to this reactive variant and compares
+ * throughput and latency percentiles. Both must be running against the same database, with the
+ * servlet application's rate limiting off, for example:
+ *
+ * <pre>
+ * mvn test -Pbenchmark -Dbenchmark.servlet-url=http://localhost:8080 \
+ *     -Dbenchmark.reactive-url=http://localhost:8081 -Dbenchmark.concurrency=256
+ * </pre>
+ *
+ * <p>Each scenario runs closed-loop: {@code benchmark.concurrency} clients send their next request
+ * as soon as the previous one returns, first for the warm-up and then for the measured duration.
+ * Only reads are compared, since concurrent writes for one customer conflict on the customer row in
+ * both variants. The report is logged and written to {@code target/benchmark-reports}.
+ */
+@Slf4j
+@Tag("benchmark")
+class ServletReactiveBenchmarkTest {
+
+  private static final String SERVLET_URL = System.getProperty("benchmark.servlet-url");
+  private static final String REACTIVE_URL = System.getProperty("benchmark.reactive-url");
+  private static final String EMAIL = System.getProperty("benchmark.email", "customer@test.com");
+  private static final String PASSWORD = System.getProperty("benchmark.password", "123456");
+  private static final long CUSTOMER_ID = Long.getLong("benchmark.customer-id", 1);
+  private static final int LOANS = Integer.getInteger("benchmark.loans", 10);
+  private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 64);
+  private static final Duration WARM_UP =
+      Duration.parse(System.getProperty("benchmark.warm-up", "PT10S"));
+  private static final Duration DURATION =
+      Duration.parse(System.getProperty("benchmark.duration", "PT30S"));
+  private static final double MAX_ERROR_RATE =
+      Double.parseDouble(System.getProperty("benchmark.max-error-rate", "0.01"));
+  private static final Path REPORT_DIR =
+      Path.of(System.getProperty("benchmark.report-dir", "target/benchmark-reports"));
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+  private String token;
+
+  @Test
+  void loanReads_ShouldBeMeasuredOnBothVariants() throws Exception {
+    assumeTrue(
+        SERVLET_URL != null && REACTIVE_URL != null,
+        "benchmark.servlet-url and benchmark.reactive-url are not set");
+
+    // Given - loans created through the servlet application, read back by both variants
+    token = login();
+    long loanId = 0;
+    for (int i = 0; i < LOANS; i++) {
+      loanId = createLoan();
+    }
+    String loansPath = "/api/v1/customers/" + CUSTOMER_ID + "/loans";
+    List<Scenario> scenarios =
+        List.of(
+            new Scenario("list-loans", loansPath),
+            new Scenario("installments", loansPath + "/" + loanId + "/installments"));
+
+    // When
+    List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+    for (Scenario scenario : scenarios) {
+      summaries.add(run("servlet", SERVLET_URL, scenario));
+      summaries.add(run("reactive", REACTIVE_URL, scenario));
+    }
+
+    // Then
+    report(summaries);
+    for (LatencyRecorder.Summary summary : summaries) {
+      assertThat(summary.requests()).isPositive();
+      assertThat((double) summary.errors() / summary.requests())
+          .isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+  }
+
+  private LatencyRecorder.Summary run(String variant, String baseUrl, Scenario scenario)
+      throws InterruptedException {
+    String url = baseUrl + scenario.path();
+    measure(new LatencyRecorder(variant, scenario.name()), url, WARM_UP);
+    LatencyRecorder recorder = new LatencyRecorder(variant, scenario.name());
+    return recorder.summarize(measure(recorder, url, DURATION));
+  }
+
+  private Duration measure(LatencyRecorder recorder, String url, Duration duration)
+      throws InterruptedException {
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofSeconds(30))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+    long start = System.nanoTime();
+    long deadline = start + duration.toNanos();
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < CONCURRENCY; i++) {
+        clients.execute(
+            () -> {
+              while (System.nanoTime() < deadline) {
+                long sent = System.nanoTime();
+                boolean success;
+                try {
+                  success =
+                      httpClient.send(request, HttpResponse.BodyHandlers.ofString()).statusCode()
+                          == 200;
+                } catch (IOException e) {
+                  success = false;
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  return;
+                }
+                recorder.record(System.nanoTime() - sent, success);
+              }
+            });
+      }
+    }
+    return Duration.ofNanos(System.nanoTime() - start);
+  }
+
+  private String login() throws IOException, InterruptedException {
+    JsonNode response =
+        post(SERVLET_URL + "/api/v1/login", Map.of("email", EMAIL, "password", PASSWORD), null);
+    return response.get("accessToken").asText();
+  }
+
+  private long createLoan() throws IOException, InterruptedException {
+    JsonNode response =
+        post(
+            SERVLET_URL + "/api/v1/customers/" + CUSTOMER_ID + "/loans",
+            Map.of("loanAmount", 1200, "interestRate", 0.1, "numberOfInstallment", "SIX"),
+            token);
+    return response.get("id").asLong();
+  }
+
+  private JsonNode post(String url, Object body, String bearer)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    if (bearer != null) {
+      request.header("Authorization", "Bearer " + bearer);
+    }
+    HttpResponse<String> response =
+        httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException(url + " returned " + response.statusCode());
+    }
+    return objectMapper.readTree(response.body());
+  }
+
+  private void report(List<LatencyRecorder.Summary> summaries) throws IOException {
+    StringBuilder report = new StringBuilder();
+    report
+        .append(
+            String.format(
+                "Servlet vs reactive: %d clients, %d s per scenario after %d s warm-up%n",
+                CONCURRENCY, DURATION.toSeconds(), WARM_UP.toSeconds()))
+        .append(LatencyRecorder.Summary.HEADER)
+        .append(System.lineSeparator());
+    for (LatencyRecorder.Summary summary : summaries) {
+      report.append(summary.format()).append(System.lineSeparator());
+    }
+    log.info("{}{}", System.lineSeparator(), report);
+
+    Files.createDirectories(REPORT_DIR);
+    String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    Files.writeString(REPORT_DIR.resolve("benchmark-report-" + timestamp + ".txt"), report);
+  }
+
+  private record Scenario(String name, String path) {}
+}
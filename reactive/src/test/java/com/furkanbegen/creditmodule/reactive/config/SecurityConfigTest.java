@@ -0,0 +1,19 @@
+package com.furkanbegen.creditmodule.reactive.config;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class SecurityConfigTest {
+
+  @Test
+  void jwtDecoder_WhenTokenRevocationIsNotIgnored_ShouldRefuseToStart() {
+    // Given
+    SecurityConfig securityConfig = new SecurityConfig(null);
+
+    // When / Then
+    assertThatThrownBy(securityConfig::jwtDecoder)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("app.security.ignore-token-revocation");
+  }
+}
@@ -0,0 +1,203 @@
+package com.furkanbegen.creditmodule.reactive.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+
+import com.furkanbegen.creditmodule.reactive.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.reactive.dto.LoanInstallmentDTO;
+import com.furkanbegen.creditmodule.reactive.dto.LoanPaymentRequest;
+import com.furkanbegen.creditmodule.reactive.dto.LoanResponseDTO;
+import com.furkanbegen.creditmodule.reactive.model.Customer;
+import com.furkanbegen.creditmodule.reactive.model.InstallmentOption;
+import com.furkanbegen.creditmodule.reactive.repository.CustomerRepository;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class LoanControllerTest {
+
+  private static final String BASE_URL = "/api/v1/customers/{customerId}/loans";
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private DatabaseClient databaseClient;
+
+  private Customer customer;
+
+  private Customer anotherCustomer;
+
+  @BeforeEach
+  void setUp() {
+    customer = customerRepository.findByUserId(userId("customer@test.com")).block();
+    anotherCustomer = customerRepository.findByUserId(userId("another@test.com")).block();
+  }
+
+  @Test
+  void createLoan_ShouldStoreLoanWithInstallmentsAndEvents() {
+    // When
+    LoanResponseDTO created = createLoan(BigDecimal.valueOf(1200));
+
+    // Then
+    assertThat(created.getLoanAmount()).isEqualByComparingTo("1320.00");
+    assertThat(created.getInstallments())
+        .hasSize(6)
+        .allSatisfy(
+            installment -> {
+              assertThat(installment.getAmount()).isEqualByComparingTo("220.00");
+              assertThat(installment.getDueDate().getDayOfMonth()).isEqualTo(1);
+            });
+    assertThat(count("loan_events", created.getId())).isEqualTo(1);
+    assertThat(count("outbox_events", created.getId())).isEqualTo(1);
+
+    authenticated()
+        .get()
+        .uri(BASE_URL + "/{loanId}/installments", customer.getId(), created.getId())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(LoanInstallmentDTO.class)
+        .hasSize(6);
+    authenticated()
+        .get()
+        .uri(BASE_URL, customer.getId())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBodyList(LoanResponseDTO.class)
+        .value(
+            loans ->
+                assertThat(loans).extracting(LoanResponseDTO::getId).contains(created.getId()));
+  }
+
+  @Test
+  void payLoan_ShouldSettleFirstInstallmentWithDiscount() {
+    // Given
+    LoanResponseDTO created = createLoan(BigDecimal.valueOf(1200));
+    // As left by the servlet application's penalty accrual job
+    databaseClient
+        .sql(
+            "UPDATE loan_installments SET accrued_penalty = 1, days_late = 1,"
+                + " penalty_accrued_at = CURRENT_TIMESTAMP WHERE loan_id = :loanId")
+        .bind("loanId", created.getId())
+        .fetch()
+        .rowsUpdated()
+        .block();
+    LoanPaymentRequest request = new LoanPaymentRequest();
+    request.setPaymentAmount(BigDecimal.valueOf(250));
+
+    // When / Then - paid before the due date, so the installment costs less than 220
+    authenticated()
+        .post()
+        .uri(BASE_URL + "/{loanId}/pay", customer.getId(), created.getId())
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.numberOfInstallmentsPaid")
+        .isEqualTo(1)
+        .jsonPath("$.loanFullyPaid")
+        .isEqualTo(false);
+    // Created, settled and discount events
+    assertThat(count("loan_events", created.getId())).isEqualTo(3);
+    // Nothing stays accrued on the paid installment
+    assertThat(
+            databaseClient
+                .sql(
+                    "SELECT COUNT(*) AS total FROM loan_installments WHERE loan_id = :loanId"
+                        + " AND is_paid = true AND accrued_penalty IS NULL AND days_late IS NULL"
+                        + " AND penalty_accrued_at IS NULL")
+                .bind("loanId", created.getId())
+                .map(row -> row.get("total", Long.class))
+                .one()
+                .block())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void createLoan_WhenLimitExceeded_ShouldReturnSameErrorAsServletApplication() {
+    // Given
+    CreateLoanRequest request = loanRequest(BigDecimal.valueOf(1_000_000));
+
+    // When / Then
+    authenticated()
+        .post()
+        .uri(BASE_URL, customer.getId())
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .is5xxServerError()
+        .expectBody()
+        .jsonPath("$.messages[0]")
+        .isEqualTo("Insufficient credit limit");
+  }
+
+  @Test
+  void getLoans_WhenCustomerBelongsToAnotherUser_ShouldBeForbidden() {
+    // When / Then
+    authenticated()
+        .get()
+        .uri(BASE_URL, anotherCustomer.getId())
+        .exchange()
+        .expectStatus()
+        .isForbidden();
+  }
+
+  private LoanResponseDTO createLoan(BigDecimal loanAmount) {
+    return authenticated()
+        .post()
+        .uri(BASE_URL, customer.getId())
+        .bodyValue(loanRequest(loanAmount))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(LoanResponseDTO.class)
+        .returnResult()
+        .getResponseBody();
+  }
+
+  private WebTestClient authenticated() {
+    return webTestClient.mutateWith(
+        mockJwt()
+            .jwt(token -> token.claim("user_id", customer.getUserId()))
+            .authorities(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+  }
+
+  private Long userId(String email) {
+    return databaseClient
+        .sql("SELECT id FROM users WHERE email = :email")
+        .bind("email", email)
+        .map(row -> row.get("id", Long.class))
+        .one()
+        .block();
+  }
+
+  private Long count(String table, Long loanId) {
+    return databaseClient
+        .sql("SELECT COUNT(*) AS total FROM " + table + " WHERE loan_id = :loanId")
+        .bind("loanId", loanId)
+        .map(row -> row.get("total", Long.class))
+        .one()
+        .block();
+  }
+
+  private static CreateLoanRequest loanRequest(BigDecimal loanAmount) {
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(loanAmount);
+    request.setInterestRate(BigDecimal.valueOf(0.1));
+    request.setNumberOfInstallment(InstallmentOption.SIX);
+    return request;
+  }
+}
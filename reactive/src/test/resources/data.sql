@@ -0,0 +1,12 @@
+INSERT INTO roles (name, version) VALUES ('ROLE_ADMIN', 0), ('ROLE_CUSTOMER', 0);
+
+-- Tokens are issued by the servlet application, so the password is never checked here
+INSERT INTO users (email, password, name, surname, version) VALUES
+    ('customer@test.com', 'unused', 'Test', 'Customer', 0),
+    ('another@test.com', 'unused', 'Another', 'Customer', 0);
+
+INSERT INTO user_roles (user_id, role_id)
+SELECT u.id, r.id FROM users u, roles r WHERE r.name = 'ROLE_CUSTOMER';
+
+INSERT INTO customers (name, surname, credit_limit, used_credit_limit, user_id, version)
+SELECT u.name, u.surname, 100000, 0, u.id, 0 FROM users u;
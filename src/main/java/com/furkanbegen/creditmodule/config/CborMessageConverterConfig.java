@@ -0,0 +1,27 @@
+package com.furkanbegen.creditmodule.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serves {@code application/cbor} to clients that ask for it in {@code Accept}; JSON stays the
+ * default. BigDecimal values are written as CBOR decimal fractions and dates as integer arrays, so
+ * neither is rendered as text.
+ */
+@Configuration
+public class CborMessageConverterConfig {
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    // Built from Boot's builder so the spring.jackson.* settings apply to CBOR as well
+    ObjectMapper objectMapper = builder.factory(new CBORFactory()).build();
+    objectMapper.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    return new MappingJackson2CborHttpMessageConverter(objectMapper);
+  }
+}
@@ -0,0 +1,85 @@
+package com.furkanbegen.creditmodule.config;
+
+import com.furkanbegen.creditmodule.repository.projection.CreditUtilizationSummary;
+import com.furkanbegen.creditmodule.repository.projection.InstallmentOptionSummary;
+import com.furkanbegen.creditmodule.repository.projection.InstallmentStatusSummary;
+import com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow;
+import com.furkanbegen.creditmodule.repository.projection.LoanVersionSummary;
+import com.furkanbegen.creditmodule.repository.projection.UnpaidInstallmentView;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.core.NativeDetector;
+import org.springframework.data.projection.TargetAware;
+
+/**
+ * Reachability metadata for the native image ({@code mvn -Pnative package}) that Spring AOT and the
+ * GraalVM metadata repository do not infer. Entities and DTOs are covered by the JPA and web AOT
+ * processing.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.CreditModuleRuntimeHints.class)
+public class NativeConfig {
+
+  /**
+   * ByteBuddy cannot define proxy classes at run time in a native image. The native profile
+   * enhances the entities at build time instead, which covers the LAZY associations of {@code Loan}
+   * and {@code LoanInstallment}.
+   */
+  @Bean
+  HibernatePropertiesCustomizer nativeBytecodeProviderCustomizer() {
+    return properties -> {
+      if (NativeDetector.inNativeImage()) {
+        properties.put("hibernate.bytecode.provider", "none");
+      }
+    };
+  }
+
+  static class CreditModuleRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+      // Flyway migrations and the Caffeine cache regions are read from the classpath
+      hints.resources().registerPattern("db/migration/*.sql");
+      hints.resources().registerPattern("application.conf");
+
+      // Instantiated by Hibernate for the JPQL constructor expression
+      hints
+          .reflection()
+          .registerType(LoanInstallmentRow.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+      // Spring Data interface projections are backed by JDK proxies
+      for (Class<?> projection :
+          new Class<?>[] {
+            CreditUtilizationSummary.class,
+            InstallmentOptionSummary.class,
+            InstallmentStatusSummary.class,
+            LoanVersionSummary.class,
+            UnpaidInstallmentView.class
+          }) {
+        hints
+            .proxies()
+            .registerJdkProxy(
+                projection, TargetAware.class, SpringProxy.class, DecoratingProxy.class);
+        hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_METHODS);
+      }
+
+      // The HMAC signer and verifier behind NimbusJwtEncoder/NimbusJwtDecoder in SecurityConfig
+      hints
+          .reflection()
+          .registerType(
+              TypeReference.of("com.nimbusds.jose.crypto.MACSigner"),
+              MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+          .registerType(
+              TypeReference.of("com.nimbusds.jose.crypto.MACVerifier"),
+              MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+  }
+}
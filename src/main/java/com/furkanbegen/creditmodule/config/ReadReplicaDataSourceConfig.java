@@ -0,0 +1,54 @@
+package com.furkanbegen.creditmodule.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the auto-configured datasource with a primary and a replica pool behind {@link
+ * ReadReplicaRoutingDataSource}. The primary keeps using {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary-pool");
+    return dataSource;
+  }
+
+  @Bean
+  public HikariDataSource replicaDataSource(ReadReplicaProperties replica) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("replica-pool");
+    dataSource.setJdbcUrl(replica.getUrl());
+    dataSource.setUsername(replica.getUsername());
+    dataSource.setPassword(replica.getPassword());
+    if (replica.getDriverClassName() != null) {
+      dataSource.setDriverClassName(replica.getDriverClassName());
+    }
+    dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+    return new LazyConnectionDataSourceProxy(
+        new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource));
+  }
+}
@@ -0,0 +1,28 @@
+package com.furkanbegen.creditmodule.config;
+
+import java.io.Serializable;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReadReplicaProperties implements Serializable {
+
+  /** Route read-only transactions to the replica pool below. */
+  private boolean enabled = false;
+
+  private String url;
+  private String username;
+  private String password;
+  private String driverClassName;
+  private int maximumPoolSize = 10;
+
+  /**
+   * How long a customer's reads stay on the primary after one of their writes commits. Should be at
+   * least the replication lag of the replica.
+   */
+  private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
@@ -0,0 +1,35 @@
+package com.furkanbegen.creditmodule.config;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. The lookup
+ * happens when the first statement needs a connection, so it has to sit behind a {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; otherwise the connection is
+ * fetched before the transaction is marked read-only.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        && !ReadYourWritesTracker.isPrimaryRequired()) {
+      return Route.REPLICA;
+    }
+    return Route.PRIMARY;
+  }
+}
@@ -0,0 +1,86 @@
+package com.furkanbegen.creditmodule.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps a customer's reads on the primary for {@code read-your-writes-window} after one of their
+ * writes commits, so a loan list fetched right after a payment does not come from a replica that
+ * has not caught up yet. Does nothing while replica routing is disabled.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesTracker {
+
+  private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+  // Expired entries are only dropped once the map grows past this size
+  private static final int PRUNE_THRESHOLD = 10_000;
+
+  private final ReadReplicaProperties properties;
+
+  private final Map<Long, Long> primaryUntil = new ConcurrentHashMap<>();
+
+  /** Starts the read-your-writes window for {@code customerId} once the current write commits. */
+  public void recordWrite(Long customerId) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              startWindow(customerId);
+            }
+          });
+    } else {
+      startWindow(customerId);
+    }
+  }
+
+  /**
+   * Routes the current read-only transaction to the primary if {@code customerId} wrote recently.
+   * Must be called before the transaction issues its first statement.
+   */
+  public void routeToPrimaryIfRecentlyWritten(Long customerId) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    Long until = primaryUntil.get(customerId);
+    if (until == null || until < System.currentTimeMillis()) {
+      return;
+    }
+
+    PRIMARY_REQUIRED.set(Boolean.TRUE);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              PRIMARY_REQUIRED.remove();
+            }
+          });
+    } else {
+      PRIMARY_REQUIRED.remove();
+    }
+  }
+
+  static boolean isPrimaryRequired() {
+    return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+  }
+
+  private void startWindow(Long customerId) {
+    long now = System.currentTimeMillis();
+    if (primaryUntil.size() > PRUNE_THRESHOLD) {
+      primaryUntil.values().removeIf(until -> until < now);
+    }
+    primaryUntil.put(customerId, now + properties.getReadYourWritesWindow().toMillis());
+  }
+}
@@ -1,5 +1,6 @@
 package com.furkanbegen.creditmodule.config;
 
+import com.furkanbegen.creditmodule.monitoring.CreditMetrics;
 import com.furkanbegen.creditmodule.security.CustomAuthenticationFailureHandler;
 import com.furkanbegen.creditmodule.security.CustomJwtAuthenticationConverter;
 import com.furkanbegen.creditmodule.security.CustomJwtDecoder;
@@ -8,6 +9,7 @@ import com.furkanbegen.creditmodule.service.TokenRevocationService;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -47,14 +49,17 @@ public class SecurityConfig {
   private final TokenRevocationService tokenRevocationService;
 
   private final CustomJwtAuthenticationConverter customJwtAuthenticationConverter;
+  private final CreditMetrics creditMetrics;
 
   public SecurityConfig(
       UserDetailService userDetailService,
       final TokenRevocationService tokenRevocationService,
-      CustomJwtAuthenticationConverter customJwtAuthenticationConverter) {
+      CustomJwtAuthenticationConverter customJwtAuthenticationConverter,
+      CreditMetrics creditMetrics) {
     this.userDetailService = userDetailService;
     this.tokenRevocationService = tokenRevocationService;
     this.customJwtAuthenticationConverter = customJwtAuthenticationConverter;
+    this.creditMetrics = creditMetrics;
   }
 
   @Bean
@@ -77,7 +82,10 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/api/v1/logout")
                     .permitAll()
-                    .requestMatchers("/api/v1/**")
+                    // Only matches on the management port, the API port has no actuator endpoints
+                    .requestMatchers(EndpointRequest.to("health", "prometheus"))
+                    .permitAll()
+                    .requestMatchers("/api/v1/**", "/api/v2/**")
                     .authenticated()
                     .anyRequest()
                     .authenticated())
@@ -140,7 +148,7 @@ public class SecurityConfig {
     var originalKey = new SecretKeySpec(bytes, 0, bytes.length, MacAlgorithm.HS512.getName());
     var nimbusJwtDecoder =
         NimbusJwtDecoder.withSecretKey(originalKey).macAlgorithm(MacAlgorithm.HS512).build();
-    return new CustomJwtDecoder(nimbusJwtDecoder, tokenRevocationService);
+    return new CustomJwtDecoder(nimbusJwtDecoder, tokenRevocationService, creditMetrics);
   }
 
   @Bean
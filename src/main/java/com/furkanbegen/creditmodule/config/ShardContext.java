@@ -0,0 +1,38 @@
+package com.furkanbegen.creditmodule.config;
+
+import java.util.function.Supplier;
+
+/** The shard the current thread's database work goes to; {@code null} means shard 0. */
+public final class ShardContext {
+
+  private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+  private ShardContext() {}
+
+  public static Integer current() {
+    return CURRENT.get();
+  }
+
+  public static void set(Integer shard) {
+    CURRENT.set(shard);
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  /** Runs {@code action} against {@code shard} and restores the previous shard afterwards. */
+  public static <T> T callOn(Integer shard, Supplier<T> action) {
+    Integer previous = CURRENT.get();
+    CURRENT.set(shard);
+    try {
+      return action.get();
+    } finally {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+}
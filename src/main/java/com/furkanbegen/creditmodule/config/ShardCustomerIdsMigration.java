@@ -0,0 +1,89 @@
+package com.furkanbegen.creditmodule.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+
+/**
+ * Repeatable migration that lays out customer ids for shard {@code shardNo} of {@code shardCount}:
+ * the identity steps by {@code shardCount} from the smallest free id with {@code id % shardCount ==
+ * shardNo}. Shards other than 0 also drop the foreign key from customers to users, which only shard
+ * 0 holds. The checksum covers both numbers, so Flyway runs it again only when the shard layout
+ * changes.
+ */
+final class ShardCustomerIdsMigration implements JavaMigration {
+
+  private final int shardNo;
+  private final int shardCount;
+
+  ShardCustomerIdsMigration(int shardNo, int shardCount) {
+    this.shardNo = shardNo;
+    this.shardCount = shardCount;
+  }
+
+  @Override
+  public MigrationVersion getVersion() {
+    return null;
+  }
+
+  @Override
+  public String getDescription() {
+    return "shard customer ids";
+  }
+
+  @Override
+  public Integer getChecksum() {
+    return Objects.hash(shardNo, shardCount);
+  }
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return true;
+  }
+
+  @Override
+  public void migrate(Context context) throws SQLException {
+    Connection connection = context.getConnection();
+    try (Statement statement = connection.createStatement()) {
+      if (shardNo > 0) {
+        for (String foreignKey : userForeignKeys(connection)) {
+          statement.execute("ALTER TABLE customers DROP CONSTRAINT " + foreignKey);
+        }
+      }
+      long maxId;
+      try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM customers")) {
+        rs.next();
+        maxId = rs.getLong(1);
+      }
+      // Smallest id above the existing ones that belongs to this shard
+      long nextId = maxId - Math.floorMod(maxId, shardCount) + shardNo;
+      if (nextId <= maxId) {
+        nextId += shardCount;
+      }
+      statement.execute("ALTER TABLE customers ALTER COLUMN id SET INCREMENT BY " + shardCount);
+      statement.execute("ALTER TABLE customers ALTER COLUMN id RESTART WITH " + nextId);
+    }
+  }
+
+  private static List<String> userForeignKeys(Connection connection) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    String table = metaData.storesUpperCaseIdentifiers() ? "CUSTOMERS" : "customers";
+    List<String> foreignKeys = new ArrayList<>();
+    try (ResultSet keys = metaData.getImportedKeys(null, null, table)) {
+      while (keys.next()) {
+        if ("users".equalsIgnoreCase(keys.getString("PKTABLE_NAME"))) {
+          foreignKeys.add(keys.getString("FK_NAME"));
+        }
+      }
+    }
+    return foreignKeys;
+  }
+}
@@ -0,0 +1,51 @@
+package com.furkanbegen.creditmodule.config;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/** Runs cross-shard work, such as admin queries, on every shard in parallel. */
+@Component
+public class ShardExecutor {
+
+  private final ShardMap shardMap;
+  private final ExecutorService executor;
+
+  public ShardExecutor(ShardMap shardMap) {
+    this.shardMap = shardMap;
+    this.executor =
+        shardMap.getShardCount() > 1
+            ? Executors.newFixedThreadPool(shardMap.getShardCount())
+            : null;
+  }
+
+  /**
+   * Returns the result of {@code action} for every shard, in shard order. {@code action} must start
+   * its own transaction, since a transaction stays on the shard it started on.
+   */
+  public <T> List<T> onAllShards(Supplier<T> action) {
+    if (executor == null) {
+      return List.of(ShardContext.callOn(0, action));
+    }
+
+    List<CompletableFuture<T>> futures = new ArrayList<>(shardMap.getShardCount());
+    for (int shard = 0; shard < shardMap.getShardCount(); shard++) {
+      int shardNo = shard;
+      futures.add(
+          CompletableFuture.supplyAsync(() -> ShardContext.callOn(shardNo, action), executor));
+    }
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.furkanbegen.creditmodule.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ShardMap {
+
+  private final ShardingProperties properties;
+
+  public int getShardCount() {
+    return properties.isEnabled() ? Math.max(1, properties.getShards().size()) : 1;
+  }
+
+  public int shardFor(Long customerId) {
+    Integer assigned = properties.getCustomerShards().get(customerId);
+    if (assigned != null) {
+      return assigned;
+    }
+    return (int) Math.floorMod(customerId, (long) getShardCount());
+  }
+}
@@ -0,0 +1,44 @@
+package com.furkanbegen.creditmodule.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Picks the shard's pool from {@link ShardContext} when a connection is requested. Transactions
+ * keep their connection, so the shard has to be chosen before the transaction starts.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+  private final List<? extends DataSource> shards;
+
+  public ShardRoutingDataSource(List<? extends DataSource> shards) {
+    this.shards = shards;
+    Map<Object, Object> targets = new HashMap<>();
+    for (int shard = 0; shard < shards.size(); shard++) {
+      targets.put(shard, shards.get(shard));
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(shards.get(0));
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    Integer shard = ShardContext.current();
+    return shard != null ? shard : 0;
+  }
+
+  @Override
+  public void close() {
+    for (DataSource shard : shards) {
+      if (shard instanceof HikariDataSource pool) {
+        pool.close();
+      }
+    }
+  }
+}
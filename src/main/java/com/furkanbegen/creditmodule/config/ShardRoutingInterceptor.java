@@ -0,0 +1,40 @@
+package com.furkanbegen.creditmodule.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/** Routes requests on {@code /customers/{customerId}/...} to that customer's shard. */
+@RequiredArgsConstructor
+public class ShardRoutingInterceptor implements HandlerInterceptor {
+
+  private static final String CUSTOMER_ID_VARIABLE = "customerId";
+
+  private final ShardMap shardMap;
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    @SuppressWarnings("unchecked")
+    Map<String, String> variables =
+        (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    String customerId = variables != null ? variables.get(CUSTOMER_ID_VARIABLE) : null;
+    if (customerId != null) {
+      try {
+        ShardContext.set(shardMap.shardFor(Long.valueOf(customerId)));
+      } catch (NumberFormatException e) {
+        // Left to argument binding, which rejects the request with a 400
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    ShardContext.clear();
+  }
+}
@@ -0,0 +1,92 @@
+package com.furkanbegen.creditmodule.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Replaces the auto-configured datasource with one pool per shard behind {@link
+ * ShardRoutingDataSource}. Cannot be combined with read replica routing.
+ *
+ * <p>Customer ids are allocated globally: shard {@code n} of {@code count} hands out only ids with
+ * {@code id % count == n}, so a customer created on any shard is routed back to it. Users stay on
+ * shard 0, so the other shards drop the foreign key from customers to users. Both are schema
+ * changes made by {@link ShardCustomerIdsMigration} along with the Flyway migrations.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingDataSourceConfig {
+
+  public ShardingDataSourceConfig(ReadReplicaProperties readReplicaProperties) {
+    if (readReplicaProperties.isEnabled()) {
+      throw new IllegalStateException(
+          "app.datasource.sharding and app.datasource.replica cannot be enabled together");
+    }
+  }
+
+  @Bean
+  @Primary
+  public ShardRoutingDataSource dataSource(ShardingProperties properties) {
+    if (properties.getShards().isEmpty()) {
+      throw new IllegalStateException("app.datasource.sharding.shards must not be empty");
+    }
+
+    int shardCount = properties.getShards().size();
+    List<HikariDataSource> shards = new ArrayList<>();
+    for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+      ShardingProperties.Shard shard = properties.getShards().get(shardNo);
+      if (properties.isMigrate()) {
+        migrate(shard, shardNo, shardCount);
+      }
+      shards.add(pool(shardNo, shard));
+    }
+    return new ShardRoutingDataSource(shards);
+  }
+
+  @Bean
+  public WebMvcConfigurer shardRoutingConfigurer(ShardMap shardMap) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        // Ahead of the rate limiter, whose ownership check must read the customer's shard
+        registry
+            .addInterceptor(new ShardRoutingInterceptor(shardMap))
+            .order(Ordered.HIGHEST_PRECEDENCE);
+      }
+    };
+  }
+
+  private static void migrate(ShardingProperties.Shard shard, int shardNo, int shardCount) {
+    // Own connections, so the pool's account only needs DML rights
+    boolean ownAccount = shard.getMigrationUsername() != null;
+    Flyway.configure()
+        .dataSource(
+            shard.getUrl(),
+            ownAccount ? shard.getMigrationUsername() : shard.getUsername(),
+            ownAccount ? shard.getMigrationPassword() : shard.getPassword())
+        .javaMigrations(new ShardCustomerIdsMigration(shardNo, shardCount))
+        .load()
+        .migrate();
+  }
+
+  private static HikariDataSource pool(int shardNo, ShardingProperties.Shard shard) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("shard-" + shardNo + "-pool");
+    dataSource.setJdbcUrl(shard.getUrl());
+    dataSource.setUsername(shard.getUsername());
+    dataSource.setPassword(shard.getPassword());
+    if (shard.getDriverClassName() != null) {
+      dataSource.setDriverClassName(shard.getDriverClassName());
+    }
+    dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+    return dataSource;
+  }
+}
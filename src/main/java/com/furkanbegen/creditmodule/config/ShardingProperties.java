@@ -0,0 +1,52 @@
+package com.furkanbegen.creditmodule.config;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.sharding")
+public class ShardingProperties implements Serializable {
+
+  /** Split customers, loans and installments across the databases in {@code shards}. */
+  private boolean enabled = false;
+
+  /**
+   * Apply the Flyway migrations to every shard on startup, including the customer id layout for the
+   * configured number of shards. When off, the shards must already be migrated that way.
+   */
+  private boolean migrate = true;
+
+  /** Shard 0 also holds users and roles, and serves everything outside a customer route. */
+  private List<Shard> shards = new ArrayList<>();
+
+  /**
+   * Explicit customer id to shard index assignments. Customers without an entry are placed by
+   * {@code customerId % shardCount}, which holds for every customer created on a shard, so entries
+   * are only needed for customers moved between shards.
+   */
+  private Map<Long, Integer> customerShards = new HashMap<>();
+
+  @Data
+  public static class Shard implements Serializable {
+    private String url;
+    private String username;
+    private String password;
+
+    /**
+     * Account for the migrations, which change the schema. Without it they run as {@code username}.
+     */
+    private String migrationUsername;
+
+    private String migrationPassword;
+
+    private String driverClassName;
+    private int maximumPoolSize = 10;
+  }
+}
@@ -0,0 +1,29 @@
+package com.furkanbegen.creditmodule.config;
+
+import com.furkanbegen.creditmodule.service.impl.OutboxRelay;
+import com.furkanbegen.creditmodule.service.impl.PenaltyAccrualJob;
+import com.furkanbegen.creditmodule.service.impl.PortfolioAnalyticsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+@Configuration
+public class StartupConfig {
+
+  /**
+   * Beans that stay eager under {@code spring.main.lazy-initialization}. Hibernate is started up
+   * front so the first request does not pay for it, and {@code @Scheduled} methods are only
+   * registered when their bean is created.
+   */
+  @Bean
+  static LazyInitializationExcludeFilter eagerStartupBeans() {
+    return LazyInitializationExcludeFilter.forBeanTypes(
+        EntityManagerFactory.class,
+        AbstractEntityManagerFactoryBean.class,
+        PenaltyAccrualJob.class,
+        PortfolioAnalyticsService.class,
+        OutboxRelay.class);
+  }
+}
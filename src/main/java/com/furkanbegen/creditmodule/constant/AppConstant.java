@@ -5,4 +5,6 @@ public class AppConstant {
   private AppConstant() {}
 
   public static final String API_BASE_PATH = "api/v1";
+
+  public static final String API_V2_BASE_PATH = "api/v2";
 }
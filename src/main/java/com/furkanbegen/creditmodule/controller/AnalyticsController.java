@@ -0,0 +1,25 @@
+package com.furkanbegen.creditmodule.controller;
+
+import static com.furkanbegen.creditmodule.constant.AppConstant.API_BASE_PATH;
+
+import com.furkanbegen.creditmodule.dto.PortfolioAnalyticsDTO;
+import com.furkanbegen.creditmodule.service.impl.PortfolioAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping(API_BASE_PATH + "/admin/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+  private final PortfolioAnalyticsService portfolioAnalyticsService;
+
+  @GetMapping("/portfolio")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<PortfolioAnalyticsDTO> getPortfolioAnalytics(
+      @RequestParam(defaultValue = "false") boolean fresh) {
+    return ResponseEntity.ok(portfolioAnalyticsService.getPortfolioAnalytics(fresh));
+  }
+}
@@ -20,8 +20,9 @@ public class AuthController {
 
   @PostMapping("/login")
   public ResponseEntity<AuthResponseDTO> authenticateAndGetToken(
-      @Valid @RequestBody AuthRequestDTO authRequest) {
-    return ResponseEntity.ok(authService.authenticateAndGetToken(authRequest));
+      @Valid @RequestBody AuthRequestDTO authRequest, HttpServletRequest request) {
+    return ResponseEntity.ok(
+        authService.authenticateAndGetToken(authRequest, request.getRemoteAddr()));
   }
 
   @PostMapping("/logout")
@@ -5,18 +5,27 @@ import static com.furkanbegen.creditmodule.constant.AppConstant.API_BASE_PATH;
 import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
 import com.furkanbegen.creditmodule.dto.LoanFilterDTO;
 import com.furkanbegen.creditmodule.dto.LoanInstallmentDTO;
+import com.furkanbegen.creditmodule.dto.LoanLedgerResponse;
 import com.furkanbegen.creditmodule.dto.LoanPaymentRequest;
 import com.furkanbegen.creditmodule.dto.LoanPaymentResponse;
+import com.furkanbegen.creditmodule.dto.LoanPayoffResponse;
+import com.furkanbegen.creditmodule.dto.LoanQuoteResponse;
 import com.furkanbegen.creditmodule.dto.LoanResponseDTO;
+import com.furkanbegen.creditmodule.mapper.InstallmentMapper;
 import com.furkanbegen.creditmodule.mapper.LoanMapper;
 import com.furkanbegen.creditmodule.service.impl.LoanService;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping(API_BASE_PATH + "/customers/{customerId}/loans")
@@ -25,6 +34,9 @@ public class LoanController {
 
   private final LoanService loanService;
   private final LoanMapper loanMapper;
+  private final InstallmentMapper installmentMapper;
+
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
   @PostMapping
   @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
@@ -33,22 +45,47 @@ public class LoanController {
     return ResponseEntity.ok(loanMapper.toDTO(loanService.createLoan(customerId, request)));
   }
 
+  @PostMapping("/quote")
+  @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
+  public ResponseEntity<LoanQuoteResponse> quoteLoan(
+      @PathVariable Long customerId, @Valid @RequestBody CreateLoanRequest request) {
+    return ResponseEntity.ok(loanService.quoteLoan(customerId, request));
+  }
+
   @GetMapping
   @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
   public ResponseEntity<List<LoanResponseDTO>> getLoans(
-      @PathVariable Long customerId, @ModelAttribute LoanFilterDTO filter) {
-    return ResponseEntity.ok(
-        loanService.getLoans(customerId, filter).stream().map(loanMapper::toDTO).toList());
+      @PathVariable Long customerId,
+      @ModelAttribute LoanFilterDTO filter,
+      ServletWebRequest request) {
+    String eTag = RepresentationETags.of(loanService.getLoansETag(customerId, filter), request);
+    if (request.checkNotModified(eTag)) {
+      return null;
+    }
+
+    return ResponseEntity.ok()
+        .cacheControl(REVALIDATE)
+        .eTag(eTag)
+        .body(loanMapper.toDTOs(loanService.getLoans(customerId, filter)));
   }
 
   @GetMapping("/{loanId}/installments")
   @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
   public ResponseEntity<Set<LoanInstallmentDTO>> getInstallments(
-      @PathVariable Long customerId, @PathVariable Long loanId) {
-    return ResponseEntity.ok(
-        loanMapper
-            .toDTO(loanService.getLoanWithInstallments(customerId, loanId))
-            .getInstallments());
+      @PathVariable Long customerId, @PathVariable Long loanId, ServletWebRequest request) {
+    // Installments change only on payment or penalty accrual, so polling clients mostly get a 304
+    // that costs a single version query. The set is kept for v1 clients; v2 returns the
+    // installments ordered by due date.
+    String eTag =
+        RepresentationETags.of(loanService.getInstallmentsETag(customerId, loanId), request);
+    if (request.checkNotModified(eTag)) {
+      return null;
+    }
+
+    return ResponseEntity.ok()
+        .cacheControl(REVALIDATE)
+        .eTag(eTag)
+        .body(installmentMapper.toDTOSet(loanService.getInstallments(customerId, loanId)));
   }
 
   @PostMapping("/{loanId}/pay")
@@ -59,4 +96,25 @@ public class LoanController {
       @Valid @RequestBody LoanPaymentRequest request) {
     return ResponseEntity.ok(loanService.payLoan(customerId, loanId, request));
   }
+
+  @GetMapping("/{loanId}/payoff")
+  @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
+  public ResponseEntity<LoanPayoffResponse> simulatePayoff(
+      @PathVariable Long customerId,
+      @PathVariable Long loanId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate date) {
+    return ResponseEntity.ok(
+        loanService.simulatePayoff(customerId, loanId, date != null ? date : LocalDate.now()));
+  }
+
+  @GetMapping("/{loanId}/ledger")
+  @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
+  public ResponseEntity<LoanLedgerResponse> getLedger(
+      @PathVariable Long customerId,
+      @PathVariable Long loanId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime asOf) {
+    return ResponseEntity.ok(loanService.getLedger(customerId, loanId, asOf));
+  }
 }
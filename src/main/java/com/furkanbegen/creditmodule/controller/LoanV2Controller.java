@@ -0,0 +1,45 @@
+package com.furkanbegen.creditmodule.controller;
+
+import static com.furkanbegen.creditmodule.constant.AppConstant.API_V2_BASE_PATH;
+
+import com.furkanbegen.creditmodule.dto.LoanInstallmentDTO;
+import com.furkanbegen.creditmodule.mapper.InstallmentMapper;
+import com.furkanbegen.creditmodule.service.impl.LoanService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Version 2 of the loan endpoints. Installments are returned as a list ordered by due date, where
+ * v1 returned them as an unordered set.
+ */
+@RestController
+@RequestMapping(API_V2_BASE_PATH + "/customers/{customerId}/loans")
+@RequiredArgsConstructor
+public class LoanV2Controller {
+
+  private final LoanService loanService;
+  private final InstallmentMapper installmentMapper;
+
+  private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+  @GetMapping("/{loanId}/installments")
+  @PreAuthorize("@customerSecurity.hasAccess(authentication, #customerId)")
+  public ResponseEntity<List<LoanInstallmentDTO>> getInstallments(
+      @PathVariable Long customerId, @PathVariable Long loanId, ServletWebRequest request) {
+    String eTag =
+        RepresentationETags.of(loanService.getInstallmentsETag(customerId, loanId), request);
+    if (request.checkNotModified(eTag)) {
+      return null;
+    }
+
+    return ResponseEntity.ok()
+        .cacheControl(REVALIDATE)
+        .eTag(eTag)
+        .body(installmentMapper.toDTOList(loanService.getInstallments(customerId, loanId)));
+  }
+}
@@ -0,0 +1,46 @@
+package com.furkanbegen.creditmodule.controller;
+
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * ETags for the GET endpoints that serve both JSON and CBOR. A strong ETag identifies a single
+ * representation, so the one negotiated from {@code Accept} is folded into it, and the response is
+ * marked {@code Vary: Accept}, the 304 included, so caches keep the two apart.
+ */
+final class RepresentationETags {
+
+  private RepresentationETags() {}
+
+  static String of(String versionTag, ServletWebRequest request) {
+    request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    return prefersCbor(request.getHeader(HttpHeaders.ACCEPT)) ? versionTag + "-cbor" : versionTag;
+  }
+
+  // JSON is the default, so CBOR is only chosen when it ranks above anything JSON satisfies
+  private static boolean prefersCbor(String accept) {
+    if (accept == null) {
+      return false;
+    }
+    List<MediaType> mediaTypes;
+    try {
+      mediaTypes = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return false;
+    }
+    MimeTypeUtils.sortBySpecificity(mediaTypes);
+    for (MediaType mediaType : mediaTypes) {
+      if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+        return false;
+      }
+      if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,16 @@
+package com.furkanbegen.creditmodule.dto;
+
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import java.math.BigDecimal;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class InstallmentOptionTotalsDTO {
+  private InstallmentOption numberOfInstallment;
+  private long loanCount;
+  private long paidLoanCount;
+  private long unpaidLoanCount;
+  private BigDecimal totalAmount;
+}
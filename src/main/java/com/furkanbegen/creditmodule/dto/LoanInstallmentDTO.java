@@ -12,4 +12,6 @@ public class LoanInstallmentDTO {
   private LocalDateTime dueDate;
   private LocalDateTime paymentDate;
   private Boolean isPaid;
+  private BigDecimal accruedPenalty;
+  private Integer daysLate;
 }
@@ -0,0 +1,22 @@
+package com.furkanbegen.creditmodule.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LoanLedgerResponse {
+  private Long loanId;
+  private LocalDateTime asOf;
+  private LocalDateTime lastEventAt;
+  private BigDecimal loanAmount;
+  private int settledInstallments;
+  private BigDecimal settledAmount;
+  private BigDecimal outstandingAmount;
+  private BigDecimal totalPaid;
+  private BigDecimal totalDiscount;
+  private BigDecimal totalPenalty;
+  private boolean isPaid;
+}
@@ -0,0 +1,19 @@
+package com.furkanbegen.creditmodule.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LoanPayoffResponse {
+  private Long loanId;
+  private LocalDate payoffDate;
+  private BigDecimal totalPayoffAmount;
+  private BigDecimal totalDiscount;
+  private BigDecimal totalPenalty;
+  private BigDecimal payableAmount;
+  private List<PayoffInstallmentDTO> installments;
+}
@@ -0,0 +1,15 @@
+package com.furkanbegen.creditmodule.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LoanQuoteInstallmentDTO {
+  private LocalDateTime dueDate;
+  private BigDecimal amount;
+}
@@ -0,0 +1,19 @@
+package com.furkanbegen.creditmodule.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LoanQuoteResponse {
+  private BigDecimal loanAmount;
+  private BigDecimal interestRate;
+  private int numberOfInstallment;
+  private BigDecimal totalAmount;
+  private BigDecimal installmentAmount;
+  private BigDecimal availableCredit;
+  private boolean withinCreditLimit;
+  private List<LoanQuoteInstallmentDTO> installments;
+}
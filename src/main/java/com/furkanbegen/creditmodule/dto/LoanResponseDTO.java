@@ -2,7 +2,7 @@ package com.furkanbegen.creditmodule.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.util.List;
 import lombok.Data;
 
 @Data
@@ -13,5 +13,5 @@ public class LoanResponseDTO {
   private BigDecimal totalAmount;
   private Integer numberOfInstallment;
   private LocalDateTime createDate;
-  private Set<LoanInstallmentDTO> installments;
+  private List<LoanInstallmentDTO> installments;
 }
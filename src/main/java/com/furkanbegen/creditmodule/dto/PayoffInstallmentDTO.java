@@ -0,0 +1,18 @@
+package com.furkanbegen.creditmodule.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PayoffInstallmentDTO {
+  private Long installmentId;
+  private LocalDateTime dueDate;
+  private BigDecimal amount;
+  private BigDecimal adjustedAmount;
+  private BigDecimal discount;
+  private BigDecimal penalty;
+  private boolean payable;
+}
@@ -0,0 +1,24 @@
+package com.furkanbegen.creditmodule.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PortfolioAnalyticsDTO {
+  private LocalDateTime generatedAt;
+  private List<InstallmentOptionTotalsDTO> byInstallmentOption;
+  private long totalInstallments;
+  private long paidInstallments;
+  private long unpaidInstallments;
+  private long overdueInstallments;
+  private BigDecimal outstandingExposure;
+  private BigDecimal overdueExposure;
+  private long customerCount;
+  private BigDecimal totalCreditLimit;
+  private BigDecimal totalUsedCreditLimit;
+  private BigDecimal creditUtilization;
+}
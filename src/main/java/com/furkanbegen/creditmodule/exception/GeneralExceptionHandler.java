@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -92,6 +93,20 @@ public class GeneralExceptionHandler {
                 .build());
   }
 
+  @ExceptionHandler(QueryBudgetExceededException.class)
+  @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+  static ResponseEntity<ErrorResponse> resolveQueryBudgetExceededException(
+      final QueryBudgetExceededException ex) {
+    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+        .body(
+            ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
+                .messages(List.of(ex.getMessage()))
+                .build());
+  }
+
   @ExceptionHandler(IllegalStateException.class)
   @ResponseStatus(HttpStatus.BAD_REQUEST)
   static ResponseEntity<ErrorResponse> resolveIllegalStateException(
@@ -105,4 +120,19 @@ public class GeneralExceptionHandler {
                 .messages(List.of(ex.getMessage()))
                 .build());
   }
+
+  @ExceptionHandler(RateLimitExceededException.class)
+  @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+  static ResponseEntity<ErrorResponse> resolveRateLimitExceededException(
+      final RateLimitExceededException ex) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(
+            ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .messages(List.of(ex.getMessage()))
+                .build());
+  }
 }
@@ -2,14 +2,21 @@ package com.furkanbegen.creditmodule.mapper;
 
 import com.furkanbegen.creditmodule.dto.LoanInstallmentDTO;
 import com.furkanbegen.creditmodule.model.LoanInstallment;
-import java.util.Collections;
+import com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 @Component
 public class InstallmentMapper {
 
+  private static final Comparator<LoanInstallment> BY_DUE_DATE =
+      Comparator.comparing(LoanInstallment::getDueDate);
+
   public LoanInstallmentDTO toDTO(LoanInstallment installment) {
     if (installment == null) {
       return null;
@@ -22,15 +29,63 @@ public class InstallmentMapper {
     dto.setDueDate(installment.getDueDate());
     dto.setPaymentDate(installment.getPaymentDate());
     dto.setIsPaid(installment.getIsPaid());
+    dto.setAccruedPenalty(installment.getAccruedPenalty());
+    dto.setDaysLate(installment.getDaysLate());
 
     return dto;
   }
 
-  public Set<LoanInstallmentDTO> toDTOSet(Set<LoanInstallment> installments) {
+  /** Maps installments into a list ordered by due date. */
+  public List<LoanInstallmentDTO> toDTOList(Collection<LoanInstallment> installments) {
     if (installments == null) {
-      return Collections.emptySet();
+      return new ArrayList<>();
+    }
+
+    List<LoanInstallment> sorted = new ArrayList<>(installments);
+    sorted.sort(BY_DUE_DATE);
+    List<LoanInstallmentDTO> dtos = new ArrayList<>(sorted.size());
+    for (LoanInstallment installment : sorted) {
+      dtos.add(toDTO(installment));
     }
+    return dtos;
+  }
 
-    return installments.stream().map(this::toDTO).collect(Collectors.toSet());
+  public LoanInstallmentDTO toDTO(LoanInstallmentRow row) {
+    var dto = new LoanInstallmentDTO();
+    dto.setId(row.installmentId());
+    dto.setAmount(row.amount());
+    dto.setPaidAmount(row.paidAmount());
+    dto.setDueDate(row.dueDate());
+    dto.setPaymentDate(row.paymentDate());
+    dto.setIsPaid(row.isPaid());
+    dto.setAccruedPenalty(row.accruedPenalty());
+    dto.setDaysLate(row.daysLate());
+
+    return dto;
+  }
+
+  /** Maps rows that are already ordered by due date, keeping their order. */
+  public List<LoanInstallmentDTO> toDTOList(List<LoanInstallmentRow> rows) {
+    List<LoanInstallmentDTO> dtos = new ArrayList<>(rows.size());
+    for (LoanInstallmentRow row : rows) {
+      if (row.installmentId() != null) {
+        dtos.add(toDTO(row));
+      }
+    }
+    return dtos;
+  }
+
+  /**
+   * Unordered form kept for the v1 installments endpoint. Hashing the DTOs is noticeably more
+   * expensive than {@link #toDTOList(List)}, which newer endpoints use.
+   */
+  public Set<LoanInstallmentDTO> toDTOSet(List<LoanInstallmentRow> rows) {
+    Set<LoanInstallmentDTO> dtos = new HashSet<>();
+    for (LoanInstallmentRow row : rows) {
+      if (row.installmentId() != null) {
+        dtos.add(toDTO(row));
+      }
+    }
+    return dtos;
   }
 }
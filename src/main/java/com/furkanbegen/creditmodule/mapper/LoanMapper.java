@@ -2,6 +2,9 @@ package com.furkanbegen.creditmodule.mapper;
 
 import com.furkanbegen.creditmodule.dto.LoanResponseDTO;
 import com.furkanbegen.creditmodule.model.Loan;
+import com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -22,8 +25,33 @@ public class LoanMapper {
     dto.setLoanAmount(loan.getLoanAmount());
     dto.setNumberOfInstallment(loan.getNumberOfInstallment());
     dto.setCreateDate(loan.getCreateDate());
-    dto.setInstallments(installmentMapper.toDTOSet(loan.getInstallments()));
+    dto.setInstallments(installmentMapper.toDTOList(loan.getInstallments()));
 
     return dto;
   }
+
+  /**
+   * Groups rows ordered by loan and due date into one DTO per loan in a single pass, without
+   * building any entities. Each installment list is sized from the loan's installment count.
+   */
+  public List<LoanResponseDTO> toDTOs(List<LoanInstallmentRow> rows) {
+    List<LoanResponseDTO> dtos = new ArrayList<>();
+    LoanResponseDTO current = null;
+    for (LoanInstallmentRow row : rows) {
+      if (current == null || !current.getId().equals(row.loanId())) {
+        current = new LoanResponseDTO();
+        current.setId(row.loanId());
+        current.setCustomerId(row.customerId());
+        current.setLoanAmount(row.loanAmount());
+        current.setNumberOfInstallment(row.numberOfInstallment());
+        current.setCreateDate(row.createDate());
+        current.setInstallments(new ArrayList<>(row.numberOfInstallment()));
+        dtos.add(current);
+      }
+      if (row.installmentId() != null) {
+        current.getInstallments().add(installmentMapper.toDTO(row));
+      }
+    }
+    return dtos;
+  }
 }
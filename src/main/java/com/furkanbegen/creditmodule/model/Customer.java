@@ -6,12 +6,16 @@ import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @ToString(exclude = {"loans", "user"})
 @Entity
 @Table(name = "customers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
 public class Customer extends BaseEntity {
 
   @Id
@@ -30,6 +34,9 @@ public class Customer extends BaseEntity {
   @Column(name = "used_credit_limit", nullable = false)
   private BigDecimal usedCreditLimit;
 
+  @Column(name = "due_day_of_month")
+  private Integer dueDayOfMonth;
+
   @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL)
   private Set<Loan> loans;
 
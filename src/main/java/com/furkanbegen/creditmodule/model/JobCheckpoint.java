@@ -0,0 +1,52 @@
+package com.furkanbegen.creditmodule.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Entity
+@Table(
+    name = "job_checkpoints",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "partition_no"}))
+public class JobCheckpoint extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "job_name", nullable = false)
+  private String jobName;
+
+  @Column(name = "partition_no", nullable = false)
+  private Integer partitionNo;
+
+  @Column(name = "partition_count", nullable = false)
+  private Integer partitionCount;
+
+  @Column(name = "run_date", nullable = false)
+  private LocalDate runDate;
+
+  @Column(name = "last_processed_id", nullable = false)
+  private Long lastProcessedId;
+
+  @Column(nullable = false)
+  private Boolean completed;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof JobCheckpoint)) return false;
+    JobCheckpoint that = (JobCheckpoint) o;
+    return getId() != null && getId().equals(that.getId());
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
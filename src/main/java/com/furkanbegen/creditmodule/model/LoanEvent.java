@@ -0,0 +1,73 @@
+package com.furkanbegen.creditmodule.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Append-only ledger entry. Events reference the loan by id only, so appending one never loads the
+ * loan, and their ids order the events of one loan.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "loan_events")
+public class LoanEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "loan_id", nullable = false)
+  private Long loanId;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
+  @Column(name = "event_type", nullable = false, length = 32)
+  private LoanEventType type;
+
+  @Column(name = "installment_id")
+  private Long installmentId;
+
+  @Column(nullable = false)
+  private BigDecimal amount;
+
+  @Column(name = "occurred_at", nullable = false)
+  private LocalDateTime occurredAt;
+
+  public LoanEvent(
+      Long loanId,
+      LoanEventType type,
+      Long installmentId,
+      BigDecimal amount,
+      LocalDateTime occurredAt) {
+    this.loanId = loanId;
+    this.type = type;
+    this.installmentId = installmentId;
+    this.amount = amount;
+    this.occurredAt = occurredAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof LoanEvent)) return false;
+    LoanEvent that = (LoanEvent) o;
+    return getId() != null && getId().equals(that.getId());
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -0,0 +1,14 @@
+package com.furkanbegen.creditmodule.model;
+
+public enum LoanEventType {
+  /** Loan opened, amount is the total repayable including interest. */
+  CREATED,
+  /** One installment paid off, amount is its scheduled amount. */
+  INSTALLMENT_SETTLED,
+  /** Late payment surcharge on a settled installment. */
+  PENALTY,
+  /** Early payment reduction on a settled installment. */
+  DISCOUNT,
+  /** Last installment settled, amount is the credit released back to the customer. */
+  PAYOFF
+}
@@ -33,6 +33,15 @@ public class LoanInstallment extends BaseEntity {
   @Column(name = "is_paid", nullable = false)
   private Boolean isPaid;
 
+  @Column(name = "accrued_penalty")
+  private BigDecimal accruedPenalty;
+
+  @Column(name = "days_late")
+  private Integer daysLate;
+
+  @Column(name = "penalty_accrued_at")
+  private LocalDateTime penaltyAccruedAt;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "loan_id")
   private Loan loan;
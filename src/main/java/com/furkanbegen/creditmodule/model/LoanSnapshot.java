@@ -0,0 +1,58 @@
+package com.furkanbegen.creditmodule.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/** Loan ledger state folded up to and including the event {@code lastEventId}. */
+@Getter
+@Setter
+@ToString
+@Entity
+@Table(name = "loan_snapshots")
+public class LoanSnapshot extends BaseEntity {
+
+  @Id
+  @Column(name = "loan_id")
+  private Long loanId;
+
+  @Column(name = "last_event_id", nullable = false)
+  private Long lastEventId;
+
+  @Column(name = "last_event_at", nullable = false)
+  private LocalDateTime lastEventAt;
+
+  @Column(name = "loan_amount", nullable = false)
+  private BigDecimal loanAmount;
+
+  @Column(name = "settled_installments", nullable = false)
+  private Integer settledInstallments;
+
+  @Column(name = "settled_amount", nullable = false)
+  private BigDecimal settledAmount;
+
+  @Column(name = "total_discount", nullable = false)
+  private BigDecimal totalDiscount;
+
+  @Column(name = "total_penalty", nullable = false)
+  private BigDecimal totalPenalty;
+
+  @Column(name = "is_paid", nullable = false)
+  private Boolean isPaid;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof LoanSnapshot)) return false;
+    LoanSnapshot that = (LoanSnapshot) o;
+    return getLoanId() != null && getLoanId().equals(that.getLoanId());
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -0,0 +1,62 @@
+package com.furkanbegen.creditmodule.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/** Loan change waiting to be relayed, written in the same transaction as the change itself. */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "event_type", nullable = false, length = 64)
+  private String type;
+
+  @Column(name = "loan_id", nullable = false)
+  private Long loanId;
+
+  @Column(name = "customer_id", nullable = false)
+  private Long customerId;
+
+  @Column(nullable = false, length = 4000)
+  private String payload;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "published_at")
+  private LocalDateTime publishedAt;
+
+  public OutboxEvent(
+      String type, Long loanId, Long customerId, String payload, LocalDateTime createdAt) {
+    this.type = type;
+    this.loanId = loanId;
+    this.customerId = customerId;
+    this.payload = payload;
+    this.createdAt = createdAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof OutboxEvent)) return false;
+    OutboxEvent that = (OutboxEvent) o;
+    return getId() != null && getId().equals(that.getId());
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
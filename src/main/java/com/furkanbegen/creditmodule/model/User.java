@@ -5,6 +5,8 @@ import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -30,6 +32,7 @@ public class User extends BaseEntity {
   private String surname;
 
   @ManyToMany(fetch = FetchType.EAGER)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
   @JoinTable(
       name = "user_roles",
       joinColumns = @JoinColumn(name = "user_id"),
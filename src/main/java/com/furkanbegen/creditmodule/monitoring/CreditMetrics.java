@@ -0,0 +1,126 @@
+package com.furkanbegen.creditmodule.monitoring;
+
+import com.furkanbegen.creditmodule.exception.InsufficientCreditLimitException;
+import com.furkanbegen.creditmodule.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Latency and outcome metrics for the hot paths, published as the {@code credit.operation} timer
+ * tagged with {@code operation} and {@code outcome}. Timers are registered once per tag pair and
+ * then reused, so recording costs a map lookup and a clock read. Percentiles are computed from the
+ * histogram buckets on the Prometheus side instead of in the application.
+ */
+@Component
+public class CreditMetrics {
+
+  public static final String LOAN_CREATE = "loan.create";
+  public static final String LOAN_PAY = "loan.pay";
+  public static final String LOAN_LIST = "loan.list";
+  public static final String AUTH_LOGIN = "auth.login";
+  public static final String JWT_DECODE = "jwt.decode";
+  public static final String JWT_CONVERT = "jwt.convert";
+  public static final String CUSTOMER_ACCESS = "customer.access";
+
+  public static final String OUTCOME_SUCCESS = "success";
+  public static final String OUTCOME_INSUFFICIENT_LIMIT = "insufficient-limit";
+  public static final String OUTCOME_NOT_FOUND = "not-found";
+  public static final String OUTCOME_BAD_CREDENTIALS = "bad-credentials";
+  public static final String OUTCOME_REVOKED = "revoked";
+  public static final String OUTCOME_INVALID = "invalid";
+  public static final String OUTCOME_REJECTED = "rejected";
+  public static final String OUTCOME_THROTTLED = "throttled";
+  public static final String OUTCOME_ROLLED_BACK = "rolled-back";
+  public static final String OUTCOME_ERROR = "error";
+
+  private static final String OPERATION_METRIC = "credit.operation";
+
+  private final MeterRegistry registry;
+  private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+  public CreditMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  public Timer.Sample start() {
+    return Timer.start(registry);
+  }
+
+  public void stop(Timer.Sample sample, String operation, String outcome) {
+    sample.stop(timer(operation, outcome));
+  }
+
+  /**
+   * Times {@code action} and tags it with an outcome derived from the exception it throws. Inside a
+   * transaction the timer is stopped after completion so that flush and commit are included.
+   */
+  public <T> T record(String operation, Supplier<T> action) {
+    Timer.Sample sample = start();
+    T result;
+    try {
+      result = action.get();
+    } catch (RuntimeException e) {
+      stop(sample, operation, outcomeOf(e));
+      throw e;
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              stop(
+                  sample,
+                  operation,
+                  status == STATUS_COMMITTED ? OUTCOME_SUCCESS : OUTCOME_ROLLED_BACK);
+            }
+          });
+    } else {
+      stop(sample, operation, OUTCOME_SUCCESS);
+    }
+    return result;
+  }
+
+  static String outcomeOf(RuntimeException e) {
+    if (e instanceof InsufficientCreditLimitException) {
+      return OUTCOME_INSUFFICIENT_LIMIT;
+    }
+    if (e instanceof EntityNotFoundException) {
+      return OUTCOME_NOT_FOUND;
+    }
+    if (e instanceof RateLimitExceededException) {
+      return OUTCOME_THROTTLED;
+    }
+    if (e instanceof AuthenticationException) {
+      return OUTCOME_BAD_CREDENTIALS;
+    }
+    if (e instanceof IllegalStateException || e instanceof IllegalArgumentException) {
+      return OUTCOME_REJECTED;
+    }
+    return OUTCOME_ERROR;
+  }
+
+  private Timer timer(String operation, String outcome) {
+    return timers.computeIfAbsent(
+        new TimerKey(operation, outcome),
+        key ->
+            Timer.builder(OPERATION_METRIC)
+                .tag("operation", key.operation())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry));
+  }
+
+  private record TimerKey(String operation, String outcome) {}
+}
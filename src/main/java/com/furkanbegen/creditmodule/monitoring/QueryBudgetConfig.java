@@ -0,0 +1,49 @@
+package com.furkanbegen.creditmodule.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(
+    prefix = "monitoring.query-budget",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class QueryBudgetConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer statementCounterCustomizer() {
+    return hibernateProperties ->
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+  }
+
+  @Bean
+  public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(
+      QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+    var registration =
+        new FilterRegistrationBean<>(new QueryBudgetFilter(properties, meterRegistry));
+    registration.addUrlPatterns("/api/*");
+    // Runs ahead of Spring Security so the user lookup in the JWT converter is counted as well
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "monitoring.query-budget", name = "fail-on-exceed")
+  public WebMvcConfigurer queryBudgetConfigurer(QueryBudgetProperties properties) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(properties)).addPathPatterns("/api/**");
+      }
+    };
+  }
+}
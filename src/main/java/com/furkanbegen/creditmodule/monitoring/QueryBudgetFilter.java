@@ -0,0 +1,62 @@
+package com.furkanbegen.creditmodule.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the SQL statements issued while serving a request and records them per endpoint in the
+ * {@code http.server.requests.statements} summary. Requests above their budget are logged. With
+ * {@code monitoring.query-budget.fail-on-exceed} set, {@link QueryBudgetInterceptor} has the {@link
+ * StatementCounter} reject the statement that goes over the budget instead, which makes N+1
+ * regressions such as lazy associations touched in a mapper visible as soon as they are introduced.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+  public static final String STATEMENT_COUNT_ATTRIBUTE =
+      QueryBudgetFilter.class.getName() + ".count";
+
+  private static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+
+  private final QueryBudgetProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    StatementCounter.start();
+    int statements;
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      statements = StatementCounter.stop();
+      request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+    }
+
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : UNKNOWN_ENDPOINT;
+    DistributionSummary.builder("http.server.requests.statements")
+        .description("SQL statements issued per request")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(statements);
+
+    String endpoint = request.getMethod() + " " + uri;
+    int budget = properties.getBudget(endpoint);
+    if (statements > budget && !properties.isFailOnExceed()) {
+      log.warn("{} issued {} SQL statements, budget is {}", endpoint, statements, budget);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.furkanbegen.creditmodule.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Enforces the endpoint's statement budget once the handler is known, so a request over budget
+ * fails in the handler and is answered by the exception handler instead of after its body is
+ * written.
+ */
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+  private final QueryBudgetProperties properties;
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    String endpoint =
+        request.getMethod()
+            + " "
+            + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    StatementCounter.enforce(endpoint, properties.getBudget(endpoint));
+    return true;
+  }
+}
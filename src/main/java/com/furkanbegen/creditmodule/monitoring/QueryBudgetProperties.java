@@ -0,0 +1,31 @@
+package com.furkanbegen.creditmodule.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "monitoring.query-budget")
+public class QueryBudgetProperties {
+
+  private boolean enabled = true;
+
+  /** Statements a single request may issue before it is reported. */
+  private int maxStatements = 20;
+
+  /** Fails the request instead of only logging a warning, meant for tests and local runs. */
+  private boolean failOnExceed = false;
+
+  /**
+   * Per-endpoint overrides keyed by method and path pattern, e.g. {@code [POST
+   * /api/v1/customers/{customerId}/loans]=15}.
+   */
+  private Map<String, Integer> endpoints = new HashMap<>();
+
+  public int getBudget(String endpoint) {
+    return endpoints.getOrDefault(endpoint, maxStatements);
+  }
+}
@@ -0,0 +1,53 @@
+package com.furkanbegen.creditmodule.monitoring;
+
+import com.furkanbegen.creditmodule.exception.QueryBudgetExceededException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Counting only happens between
+ * {@link #start()} and {@link #stop()}, so statements issued by schedulers or startup code are
+ * ignored. Once a budget is {@link #enforce enforced}, the statement that goes over it fails before
+ * it runs, so the request is rejected while its response can still be written.
+ */
+public class StatementCounter implements StatementInspector {
+
+  private static final ThreadLocal<Count> COUNT = new ThreadLocal<>();
+
+  public static void start() {
+    COUNT.set(new Count());
+  }
+
+  /** Fails every further statement once {@code budget} is exceeded, until {@link #stop()}. */
+  public static void enforce(String endpoint, int budget) {
+    Count count = COUNT.get();
+    if (count != null) {
+      count.endpoint = endpoint;
+      count.budget = budget;
+    }
+  }
+
+  /** Returns the number of statements since {@link #start()} and stops counting. */
+  public static int stop() {
+    Count count = COUNT.get();
+    COUNT.remove();
+    return count != null ? count.statements : 0;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    Count count = COUNT.get();
+    if (count != null && ++count.statements > count.budget) {
+      throw new QueryBudgetExceededException(
+          String.format(
+              "%s issued %d SQL statements, budget is %d",
+              count.endpoint, count.statements, count.budget));
+    }
+    return sql;
+  }
+
+  private static final class Count {
+    private int statements;
+    private String endpoint;
+    private int budget = Integer.MAX_VALUE;
+  }
+}
@@ -1,11 +1,35 @@
 package com.furkanbegen.creditmodule.repository;
 
 import com.furkanbegen.creditmodule.model.Customer;
+import com.furkanbegen.creditmodule.repository.projection.CreditUtilizationSummary;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
+  // Runs on every customer request through customerSecurity. Compares the foreign key column
+  // without joining users, which only shard 0 holds
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  @Query("SELECT c FROM Customer c WHERE c.user.id = :userId")
   Optional<Customer> findByUserId(Long userId);
+
+  // A scalar query never reads the second-level cache, whose customer row may be stale when
+  // another instance changed it
+  @Query("SELECT c.creditLimit - c.usedCreditLimit FROM Customer c WHERE c.id = :customerId")
+  Optional<BigDecimal> findAvailableCreditById(Long customerId);
+
+  @Query(
+      """
+      SELECT COUNT(c) AS customerCount,
+          COALESCE(SUM(c.creditLimit), 0) AS totalCreditLimit,
+          COALESCE(SUM(c.usedCreditLimit), 0) AS totalUsedCreditLimit
+      FROM Customer c
+      """)
+  CreditUtilizationSummary summarizeCreditUtilization();
 }
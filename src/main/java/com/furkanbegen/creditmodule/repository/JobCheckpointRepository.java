@@ -0,0 +1,19 @@
+package com.furkanbegen.creditmodule.repository;
+
+import com.furkanbegen.creditmodule.model.JobCheckpoint;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+
+  /**
+   * Checkpoint locked until the caller's transaction ends, so instances running the same job take
+   * turns on a partition: each waits for the other's chunk to commit and continues after it.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<JobCheckpoint> findByJobNameAndPartitionNo(String jobName, Integer partitionNo);
+}
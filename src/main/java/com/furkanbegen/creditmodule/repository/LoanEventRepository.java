@@ -0,0 +1,29 @@
+package com.furkanbegen.creditmodule.repository;
+
+import com.furkanbegen.creditmodule.model.LoanEvent;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LoanEventRepository extends JpaRepository<LoanEvent, Long> {
+
+  /** Events appended after a snapshot, at most one snapshot interval of them. */
+  List<LoanEvent> findByLoanIdAndIdGreaterThanOrderByIdAsc(Long loanId, Long afterId);
+
+  /**
+   * Streams a loan's history up to {@code asOf} for replays and audits. The caller must consume the
+   * stream inside a transaction and close it.
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<LoanEvent> streamByLoanIdAndOccurredAtLessThanEqualOrderByIdAsc(
+      Long loanId, LocalDateTime asOf);
+}
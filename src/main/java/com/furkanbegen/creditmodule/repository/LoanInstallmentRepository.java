@@ -0,0 +1,63 @@
+package com.furkanbegen.creditmodule.repository;
+
+import com.furkanbegen.creditmodule.model.LoanInstallment;
+import com.furkanbegen.creditmodule.repository.projection.InstallmentStatusSummary;
+import com.furkanbegen.creditmodule.repository.projection.UnpaidInstallmentView;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LoanInstallmentRepository extends JpaRepository<LoanInstallment, Long> {
+
+  /**
+   * Keyset page of unpaid installments due before {@code asOf}, restricted to one partition of the
+   * id space so several workers can walk the table without overlapping.
+   */
+  @Query(
+      """
+        SELECT li FROM LoanInstallment li
+        WHERE li.isPaid = false
+        AND li.dueDate < :asOf
+        AND li.id > :afterId
+        AND MOD(li.id, :partitionCount) = :partitionNo
+        ORDER BY li.id ASC
+        """)
+  List<LoanInstallment> findOverdueChunk(
+      @Param("asOf") LocalDateTime asOf,
+      @Param("afterId") Long afterId,
+      @Param("partitionCount") Integer partitionCount,
+      @Param("partitionNo") Integer partitionNo,
+      Pageable pageable);
+
+  @Query(
+      """
+        SELECT COUNT(li) AS totalCount,
+            COALESCE(SUM(CASE WHEN li.isPaid = true THEN 1 ELSE 0 END), 0) AS paidCount,
+            COALESCE(SUM(CASE WHEN li.isPaid = false AND li.dueDate < :currentDate
+                THEN 1 ELSE 0 END), 0) AS overdueCount,
+            COALESCE(SUM(CASE WHEN li.isPaid = false
+                THEN li.amount ELSE 0 END), 0) AS outstandingAmount,
+            COALESCE(SUM(CASE WHEN li.isPaid = false AND li.dueDate < :currentDate
+                THEN li.amount ELSE 0 END), 0) AS overdueAmount
+        FROM LoanInstallment li
+        """)
+  InstallmentStatusSummary summarizeInstallmentStatus(
+      @Param("currentDate") LocalDateTime currentDate);
+
+  @Query(
+      """
+        SELECT li.id AS id, li.amount AS amount, li.dueDate AS dueDate
+        FROM LoanInstallment li
+        WHERE li.loan.id = :loanId
+        AND li.loan.customer.id = :customerId
+        AND li.isPaid = false
+        ORDER BY li.dueDate ASC
+        """)
+  List<UnpaidInstallmentView> findUnpaidByLoanIdAndCustomerId(
+      @Param("loanId") Long loanId, @Param("customerId") Long customerId);
+}
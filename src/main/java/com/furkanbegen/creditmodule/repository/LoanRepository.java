@@ -1,6 +1,9 @@
 package com.furkanbegen.creditmodule.repository;
 
 import com.furkanbegen.creditmodule.model.Loan;
+import com.furkanbegen.creditmodule.repository.projection.InstallmentOptionSummary;
+import com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow;
+import com.furkanbegen.creditmodule.repository.projection.LoanVersionSummary;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +19,28 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
       """
         SELECT DISTINCT l FROM Loan l
         LEFT JOIN FETCH l.installments i
+        WHERE l.id = :loanId
+        AND l.customer.id = :customerId
+        ORDER BY i.dueDate ASC
+        """)
+  Optional<Loan> findByIdAndCustomerId(
+      @Param("loanId") Long loanId, @Param("customerId") Long customerId);
+
+  boolean existsByIdAndCustomerId(Long loanId, Long customerId);
+
+  /**
+   * Selects loans and their installments as flat rows instead of managed entities, so reads skip
+   * hydration and dirty-checking snapshots. Rows are ordered by loan so they can be grouped in a
+   * single pass.
+   */
+  @Query(
+      """
+        SELECT new com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow(
+            l.id, l.customer.id, l.loanAmount, l.numberOfInstallment, l.createDate,
+            i.id, i.amount, i.paidAmount, i.dueDate, i.paymentDate, i.isPaid,
+            i.accruedPenalty, i.daysLate)
+        FROM Loan l
+        LEFT JOIN l.installments i
         WHERE l.customer.id = :customerId
         AND (:isPaid IS NULL OR l.isPaid = :isPaid)
         AND (:numberOfInstallment IS NULL OR l.numberOfInstallment = :numberOfInstallment)
@@ -26,8 +51,9 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
                 AND li.isPaid = false
                 AND li.dueDate < :currentDate
             )))
+        ORDER BY l.id, i.dueDate
         """)
-  List<Loan> findLoansWithFilters(
+  List<LoanInstallmentRow> findLoanRowsWithFilters(
       @Param("customerId") Long customerId,
       @Param("isPaid") Boolean isPaid,
       @Param("numberOfInstallment") Integer numberOfInstallment,
@@ -36,12 +62,55 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
 
   @Query(
       """
-        SELECT DISTINCT l FROM Loan l
-        LEFT JOIN FETCH l.installments i
+        SELECT new com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow(
+            l.id, l.customer.id, l.loanAmount, l.numberOfInstallment, l.createDate,
+            i.id, i.amount, i.paidAmount, i.dueDate, i.paymentDate, i.isPaid,
+            i.accruedPenalty, i.daysLate)
+        FROM Loan l
+        LEFT JOIN l.installments i
         WHERE l.id = :loanId
         AND l.customer.id = :customerId
-        ORDER BY i.dueDate ASC
+        ORDER BY i.dueDate
         """)
-  Optional<Loan> findByIdAndCustomerId(
+  List<LoanInstallmentRow> findLoanRowsByIdAndCustomerId(
+      @Param("loanId") Long loanId, @Param("customerId") Long customerId);
+
+  @Query(
+      """
+        SELECT COUNT(DISTINCT l.id) AS loanCount,
+            COALESCE(MAX(l.version), 0) AS loanVersionSum,
+            COUNT(i) AS installmentCount,
+            COALESCE(SUM(i.version), 0) AS installmentVersionSum
+        FROM Loan l
+        LEFT JOIN l.installments i
+        WHERE l.id = :loanId
+        AND l.customer.id = :customerId
+        """)
+  LoanVersionSummary summarizeLoanVersion(
       @Param("loanId") Long loanId, @Param("customerId") Long customerId);
+
+  @Query(
+      """
+        SELECT COUNT(l) AS loanCount,
+            COALESCE(SUM(l.version), 0) AS loanVersionSum,
+            (SELECT COUNT(i) FROM LoanInstallment i
+                WHERE i.loan.customer.id = :customerId) AS installmentCount,
+            (SELECT COALESCE(SUM(i.version), 0) FROM LoanInstallment i
+                WHERE i.loan.customer.id = :customerId) AS installmentVersionSum
+        FROM Loan l
+        WHERE l.customer.id = :customerId
+        """)
+  LoanVersionSummary summarizeCustomerLoanVersions(@Param("customerId") Long customerId);
+
+  @Query(
+      """
+        SELECT l.numberOfInstallment AS numberOfInstallment,
+            COUNT(l) AS loanCount,
+            COALESCE(SUM(CASE WHEN l.isPaid = true THEN 1 ELSE 0 END), 0) AS paidLoanCount,
+            COALESCE(SUM(l.loanAmount), 0) AS totalAmount
+        FROM Loan l
+        GROUP BY l.numberOfInstallment
+        ORDER BY l.numberOfInstallment
+        """)
+  List<InstallmentOptionSummary> summarizeByNumberOfInstallment();
 }
@@ -0,0 +1,8 @@
+package com.furkanbegen.creditmodule.repository;
+
+import com.furkanbegen.creditmodule.model.LoanSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LoanSnapshotRepository extends JpaRepository<LoanSnapshot, Long> {}
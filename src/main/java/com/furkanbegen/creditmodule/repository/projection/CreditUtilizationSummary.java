@@ -0,0 +1,11 @@
+package com.furkanbegen.creditmodule.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface CreditUtilizationSummary {
+  Long getCustomerCount();
+
+  BigDecimal getTotalCreditLimit();
+
+  BigDecimal getTotalUsedCreditLimit();
+}
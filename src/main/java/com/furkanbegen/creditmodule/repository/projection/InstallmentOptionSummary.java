@@ -0,0 +1,13 @@
+package com.furkanbegen.creditmodule.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface InstallmentOptionSummary {
+  Integer getNumberOfInstallment();
+
+  Long getLoanCount();
+
+  Long getPaidLoanCount();
+
+  BigDecimal getTotalAmount();
+}
@@ -0,0 +1,15 @@
+package com.furkanbegen.creditmodule.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface InstallmentStatusSummary {
+  Long getTotalCount();
+
+  Long getPaidCount();
+
+  Long getOverdueCount();
+
+  BigDecimal getOutstandingAmount();
+
+  BigDecimal getOverdueAmount();
+}
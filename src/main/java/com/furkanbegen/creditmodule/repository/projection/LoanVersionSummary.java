@@ -0,0 +1,15 @@
+package com.furkanbegen.creditmodule.repository.projection;
+
+/**
+ * Version counters of a set of loans and their installments. Every update increments one entity
+ * version, so the sums change whenever anything in the set changes.
+ */
+public interface LoanVersionSummary {
+  Long getLoanCount();
+
+  Long getLoanVersionSum();
+
+  Long getInstallmentCount();
+
+  Long getInstallmentVersionSum();
+}
@@ -0,0 +1,12 @@
+package com.furkanbegen.creditmodule.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface UnpaidInstallmentView {
+  Long getId();
+
+  BigDecimal getAmount();
+
+  LocalDateTime getDueDate();
+}
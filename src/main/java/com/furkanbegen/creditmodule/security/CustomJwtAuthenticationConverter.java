@@ -1,7 +1,9 @@
 package com.furkanbegen.creditmodule.security;
 
 import com.furkanbegen.creditmodule.model.Role;
+import com.furkanbegen.creditmodule.monitoring.CreditMetrics;
 import com.furkanbegen.creditmodule.repository.UserRepository;
+import io.micrometer.core.instrument.Timer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -19,28 +21,38 @@ public class CustomJwtAuthenticationConverter
     implements Converter<Jwt, AbstractAuthenticationToken> {
 
   private final UserRepository userRepository;
+  private final CreditMetrics creditMetrics;
 
-  public CustomJwtAuthenticationConverter(UserRepository userRepository) {
+  public CustomJwtAuthenticationConverter(
+      UserRepository userRepository, CreditMetrics creditMetrics) {
     this.userRepository = userRepository;
+    this.creditMetrics = creditMetrics;
   }
 
   @Override
   public AbstractAuthenticationToken convert(Jwt jwt) {
-    Long userId = jwt.getClaim("user_id");
-
-    SecurityUser user =
-        userRepository
-            .findById(userId)
-            .map(
-                u ->
-                    new SecurityUser(
-                        u.getId(),
-                        u.getEmail(),
-                        u.getPassword(),
-                        u.getName(),
-                        u.getSurname(),
-                        getAuthorities(u.getRoles())))
-            .orElse(null);
+    Timer.Sample sample = creditMetrics.start();
+    String outcome = CreditMetrics.OUTCOME_ERROR;
+    SecurityUser user;
+    try {
+      Long userId = jwt.getClaim("user_id");
+      user =
+          userRepository
+              .findById(userId)
+              .map(
+                  u ->
+                      new SecurityUser(
+                          u.getId(),
+                          u.getEmail(),
+                          u.getPassword(),
+                          u.getName(),
+                          u.getSurname(),
+                          getAuthorities(u.getRoles())))
+              .orElse(null);
+      outcome = user != null ? CreditMetrics.OUTCOME_SUCCESS : CreditMetrics.OUTCOME_NOT_FOUND;
+    } finally {
+      creditMetrics.stop(sample, CreditMetrics.JWT_CONVERT, outcome);
+    }
 
     Collection<GrantedAuthority> authorities =
         user != null
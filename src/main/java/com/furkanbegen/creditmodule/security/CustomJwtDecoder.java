@@ -1,6 +1,8 @@
 package com.furkanbegen.creditmodule.security;
 
+import com.furkanbegen.creditmodule.monitoring.CreditMetrics;
 import com.furkanbegen.creditmodule.service.TokenRevocationService;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
@@ -11,19 +13,38 @@ public class CustomJwtDecoder implements JwtDecoder {
 
   private final JwtDecoder delegate;
   private final TokenRevocationService tokenRevocationService;
+  private final CreditMetrics creditMetrics;
 
   public CustomJwtDecoder(
-      final JwtDecoder delegate, final TokenRevocationService tokenRevocationService) {
+      final JwtDecoder delegate,
+      final TokenRevocationService tokenRevocationService,
+      final CreditMetrics creditMetrics) {
     this.delegate = delegate;
     this.tokenRevocationService = tokenRevocationService;
+    this.creditMetrics = creditMetrics;
   }
 
   @Override
   public Jwt decode(final String token) throws JwtException {
-    var decodedToken = delegate.decode(token);
-    if (tokenRevocationService.isTokenBlacklisted(decodedToken.getTokenValue())) {
-      throw new JwtException("Token is revoked");
+    Timer.Sample sample = creditMetrics.start();
+    String outcome = CreditMetrics.OUTCOME_ERROR;
+    try {
+      Jwt decodedToken;
+      try {
+        decodedToken = delegate.decode(token);
+      } catch (JwtException e) {
+        outcome = CreditMetrics.OUTCOME_INVALID;
+        throw e;
+      }
+
+      if (tokenRevocationService.isTokenBlacklisted(decodedToken.getTokenValue())) {
+        outcome = CreditMetrics.OUTCOME_REVOKED;
+        throw new JwtException("Token is revoked");
+      }
+      outcome = CreditMetrics.OUTCOME_SUCCESS;
+      return decodedToken;
+    } finally {
+      creditMetrics.stop(sample, CreditMetrics.JWT_DECODE, outcome);
     }
-    return decodedToken;
   }
 }
@@ -1,6 +1,8 @@
 package com.furkanbegen.creditmodule.security;
 
+import com.furkanbegen.creditmodule.monitoring.CreditMetrics;
 import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import io.micrometer.core.instrument.Timer;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,15 +10,52 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+/**
+ * Ownership rule behind {@code @PreAuthorize("@customerSecurity.hasAccess(...)")}. The decision is
+ * kept for the rest of the request, so the rate limiter's earlier check is not repeated, queried or
+ * timed a second time.
+ */
 @Slf4j
 @Component("customerSecurity")
 @RequiredArgsConstructor
 public class CustomerSecurityEvaluator {
 
+  private static final String DECISION_ATTRIBUTE =
+      CustomerSecurityEvaluator.class.getName() + ".decision";
+
   private final CustomerRepository customerRepository;
+  private final CreditMetrics creditMetrics;
 
   public boolean hasAccess(Authentication authentication, Long customerId) {
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (request != null
+        && request.getAttribute(DECISION_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof AccessDecision decision
+        && decision.isFor(authentication, customerId)) {
+      return decision.granted();
+    }
+
+    Timer.Sample sample = creditMetrics.start();
+    String outcome = CreditMetrics.OUTCOME_ERROR;
+    try {
+      boolean granted = checkAccess(authentication, customerId);
+      outcome = granted ? CreditMetrics.OUTCOME_SUCCESS : CreditMetrics.OUTCOME_REJECTED;
+      if (request != null) {
+        request.setAttribute(
+            DECISION_ATTRIBUTE,
+            new AccessDecision(authentication, customerId, granted),
+            RequestAttributes.SCOPE_REQUEST);
+      }
+      return granted;
+    } finally {
+      creditMetrics.stop(sample, CreditMetrics.CUSTOMER_ACCESS, outcome);
+    }
+  }
+
+  private boolean checkAccess(Authentication authentication, Long customerId) {
     if (authentication == null || !authentication.isAuthenticated()) {
       return false;
     }
@@ -48,4 +87,11 @@ public class CustomerSecurityEvaluator {
 
     return false;
   }
+
+  private record AccessDecision(Authentication authentication, Long customerId, boolean granted) {
+
+    boolean isFor(Authentication authentication, Long customerId) {
+      return this.authentication == authentication && this.customerId.equals(customerId);
+    }
+  }
 }
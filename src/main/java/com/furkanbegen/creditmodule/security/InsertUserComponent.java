@@ -10,6 +10,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -24,11 +25,17 @@ public class InsertUserComponent implements CommandLineRunner {
   private final CustomerRepository customerRepository;
   private final PasswordEncoder passwordEncoder;
 
+  // Demo users are for local development; prod and fast-start skip them and their BCrypt hashing
+  @Value("${app.seed.enabled:true}")
+  private boolean seedEnabled;
+
   @Override
   @Transactional
   public void run(final String... args) {
     insertRoles();
-    insertUsersAndCustomers();
+    if (seedEnabled) {
+      insertUsersAndCustomers();
+    }
   }
 
   private void insertRoles() {
@@ -49,10 +56,13 @@ public class InsertUserComponent implements CommandLineRunner {
     var users = userRepository.findAll();
 
     if (users.isEmpty()) {
+      // BCrypt is deliberately slow, so the shared demo password is hashed once
+      String passwordHash = passwordEncoder.encode("123456");
+
       // Create admin user
       var adminUser = new User();
       adminUser.setEmail("admin@test.com");
-      adminUser.setPassword(passwordEncoder.encode("123456"));
+      adminUser.setPassword(passwordHash);
       adminUser.setName("Test");
       adminUser.setSurname("Admin");
       adminUser.setRoles(Set.of(roleRepository.findByName("ROLE_ADMIN").get()));
@@ -61,7 +71,7 @@ public class InsertUserComponent implements CommandLineRunner {
       // Create customer user and associated customer
       var customerUser = new User();
       customerUser.setEmail("customer@test.com");
-      customerUser.setPassword(passwordEncoder.encode("123456"));
+      customerUser.setPassword(passwordHash);
       customerUser.setName("Test");
       customerUser.setSurname("Customer");
       customerUser.setRoles(Set.of(roleRepository.findByName("ROLE_CUSTOMER").get()));
@@ -78,7 +88,7 @@ public class InsertUserComponent implements CommandLineRunner {
 
       var anotherUser = new User();
       anotherUser.setEmail("anotherUser@test.com");
-      anotherUser.setPassword(passwordEncoder.encode("123456"));
+      anotherUser.setPassword(passwordHash);
       anotherUser.setName("Another");
       anotherUser.setSurname("User");
       anotherUser.setRoles(Set.of(roleRepository.findByName("ROLE_CUSTOMER").get()));
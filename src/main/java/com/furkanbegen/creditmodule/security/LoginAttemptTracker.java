@@ -0,0 +1,144 @@
+package com.furkanbegen.creditmodule.security;
+
+import com.furkanbegen.creditmodule.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sliding-window count of login attempts per email and per client address. An attempt is counted
+ * when it is let through, before the authentication manager runs, and a successful login takes it
+ * back, so what remains are failures and logins still in flight. Counting up front keeps concurrent
+ * guesses from all passing the check before the first failure is recorded. Blocked attempts are
+ * refused without BCrypt work. Each window keeps at most {@code max} attempt times and the cache
+ * drops it one window after its last attempt, so memory stays bounded under credential stuffing.
+ */
+@Component
+public class LoginAttemptTracker {
+
+  private static final String EMAIL_PREFIX = "email:";
+  private static final String IP_PREFIX = "ip:";
+
+  private final LoginThrottleProperties properties;
+  private final Cache<String, AttemptWindow> attempts;
+  private final LongSupplier nanoClock;
+
+  @Autowired
+  public LoginAttemptTracker(LoginThrottleProperties properties) {
+    this(properties, System::nanoTime);
+  }
+
+  LoginAttemptTracker(LoginThrottleProperties properties, LongSupplier nanoClock) {
+    this.properties = properties;
+    this.attempts =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaxKeys())
+            .expireAfterWrite(properties.getWindow())
+            .build();
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Counts an attempt against the email and the address, or throws {@link
+   * RateLimitExceededException} without counting it if either is blocked. Returns the attempt time,
+   * which {@link #recordSuccess} takes back.
+   */
+  public long checkAllowed(String email, String clientIp) {
+    long now = nanoClock.getAsLong();
+    if (!properties.isEnabled()) {
+      return now;
+    }
+    long waitNanos = acquire(emailKey(email), properties.getMaxFailuresPerEmail(), now);
+    if (waitNanos == 0) {
+      waitNanos = acquire(ipKey(clientIp), properties.getMaxFailuresPerIp(), now);
+      if (waitNanos > 0) {
+        release(emailKey(email), now);
+      }
+    }
+    if (waitNanos > 0) {
+      long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+      throw new RateLimitExceededException(
+          "Too many failed login attempts, retry after " + retryAfterSeconds + " seconds",
+          retryAfterSeconds);
+    }
+    return now;
+  }
+
+  /**
+   * Clears the email's attempts and takes back this attempt from the address. The address keeps its
+   * other attempts, a valid login must not reset them.
+   */
+  public void recordSuccess(String email, String clientIp, long attemptTime) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    attempts.invalidate(emailKey(email));
+    release(ipKey(clientIp), attemptTime);
+  }
+
+  /** Adds an attempt unless the window is full; returns the wait until it has room, or zero. */
+  private long acquire(String key, int max, long now) {
+    long windowNanos = properties.getWindow().toNanos();
+    long[] waitNanos = new long[1];
+    attempts
+        .asMap()
+        .compute(
+            key,
+            (k, window) -> {
+              AttemptWindow updated = window != null ? window : new AttemptWindow();
+              waitNanos[0] = updated.tryAdd(max, windowNanos, now);
+              return updated;
+            });
+    return waitNanos[0];
+  }
+
+  private void release(String key, long attemptTime) {
+    attempts
+        .asMap()
+        .computeIfPresent(
+            key,
+            (k, window) -> {
+              window.remove(attemptTime);
+              return window.isEmpty() ? null : window;
+            });
+  }
+
+  private static String emailKey(String email) {
+    return EMAIL_PREFIX + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+  }
+
+  private static String ipKey(String clientIp) {
+    return IP_PREFIX + clientIp;
+  }
+
+  /** Attempt times inside the window, oldest first. Only touched inside a map compute. */
+  private static final class AttemptWindow {
+
+    private final ArrayDeque<Long> times = new ArrayDeque<>();
+
+    /** Adds {@code now} if fewer than {@code max} attempts remain in the window. */
+    private long tryAdd(int max, long windowNanos, long now) {
+      while (!times.isEmpty() && times.peekFirst() + windowNanos <= now) {
+        times.pollFirst();
+      }
+      if (times.size() >= max) {
+        return times.peekFirst() + windowNanos - now;
+      }
+      times.addLast(now);
+      return 0;
+    }
+
+    private void remove(long time) {
+      times.removeLastOccurrence(time);
+    }
+
+    private boolean isEmpty() {
+      return times.isEmpty();
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.furkanbegen.creditmodule.security;
+
+import java.io.Serializable;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.login-throttle")
+public class LoginThrottleProperties implements Serializable {
+
+  private boolean enabled = true;
+
+  /**
+   * Failed or in-flight logins for one email within {@code window} before further attempts are
+   * refused.
+   */
+  private int maxFailuresPerEmail = 5;
+
+  /** Failed or in-flight logins from one client address within {@code window}, across emails. */
+  private int maxFailuresPerIp = 20;
+
+  private Duration window = Duration.ofMinutes(15);
+
+  /** Upper bound on tracked emails and addresses together. */
+  private int maxKeys = 100_000;
+}
@@ -0,0 +1,39 @@
+package com.furkanbegen.creditmodule.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(
+    prefix = "app.rate-limit",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class RateLimitConfig {
+
+  @Bean
+  public RateLimiter rateLimiter(RateLimitProperties properties) {
+    return new RateLimiter(properties.getMaxKeys(), properties.getLongestPeriod());
+  }
+
+  @Bean
+  public WebMvcConfigurer rateLimitConfigurer(
+      RateLimiter rateLimiter,
+      RateLimitProperties properties,
+      MeterRegistry meterRegistry,
+      CustomerSecurityEvaluator customerSecurity) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry
+            .addInterceptor(
+                new RateLimitInterceptor(rateLimiter, properties, meterRegistry, customerSecurity))
+            .addPathPatterns("/api/*/customers/*/loans", "/api/*/customers/*/loans/**");
+      }
+    };
+  }
+}
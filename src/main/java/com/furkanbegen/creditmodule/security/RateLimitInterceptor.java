@@ -0,0 +1,112 @@
+package com.furkanbegen.creditmodule.security;
+
+import com.furkanbegen.creditmodule.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Throttles loan requests per authenticated user and per target customer. Interceptors run before
+ * the controller proxy, so a rejected request never reaches the service layer. The customer bucket
+ * is only charged for callers that {@code customerSecurity} lets through, so nobody can use up
+ * another customer's tokens, and a request it rejects gives its user token back. The evaluator
+ * keeps its decision for the request, so {@code @PreAuthorize} reuses it instead of checking again.
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+  static final String REJECTED_METRIC = "http.server.requests.rate-limited";
+
+  private static final String CUSTOMER_ID_VARIABLE = "customerId";
+  private static final String USER_SCOPE = "user";
+  private static final String CUSTOMER_SCOPE = "customer";
+
+  private final RateLimiter rateLimiter;
+  private final RateLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final CustomerSecurityEvaluator customerSecurity;
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    String endpoint = handlerMethod.getMethod().getName();
+    String pattern =
+        request.getMethod()
+            + " "
+            + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    RateLimitProperties.Limit limit = properties.getLimit(endpoint);
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    String userId = currentUserId(authentication);
+    RateLimiter.Key userKey = null;
+    if (userId != null) {
+      userKey = new RateLimiter.Key(pattern, USER_SCOPE, userId);
+      long waitNanos = rateLimiter.tryAcquire(userKey, limit);
+      if (waitNanos > 0) {
+        throw rejected(endpoint, USER_SCOPE, waitNanos);
+      }
+    }
+
+    Long customerId = customerId(request);
+    if (customerId != null && customerSecurity.hasAccess(authentication, customerId)) {
+      long waitNanos =
+          rateLimiter.tryAcquire(
+              new RateLimiter.Key(pattern, CUSTOMER_SCOPE, customerId.toString()), limit);
+      if (waitNanos > 0) {
+        if (userKey != null) {
+          rateLimiter.release(userKey, limit);
+        }
+        throw rejected(endpoint, CUSTOMER_SCOPE, waitNanos);
+      }
+    }
+    return true;
+  }
+
+  private RateLimitExceededException rejected(String endpoint, String scope, long waitNanos) {
+    Counter.builder(REJECTED_METRIC)
+        .tag("endpoint", endpoint)
+        .tag("scope", scope)
+        .register(meterRegistry)
+        .increment();
+    long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+    return new RateLimitExceededException(
+        "Too many requests, retry after " + retryAfterSeconds + " seconds", retryAfterSeconds);
+  }
+
+  /** Unparsable ids are left to the controller, which answers them with 400. */
+  private static Long customerId(HttpServletRequest request) {
+    @SuppressWarnings("unchecked")
+    Map<String, String> variables =
+        (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    String customerId = variables != null ? variables.get(CUSTOMER_ID_VARIABLE) : null;
+    if (customerId == null) {
+      return null;
+    }
+    try {
+      return Long.valueOf(customerId);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String currentUserId(Authentication authentication) {
+    if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+      Object userId = jwt.getClaim("user_id");
+      return userId != null ? userId.toString() : null;
+    }
+    return null;
+  }
+}
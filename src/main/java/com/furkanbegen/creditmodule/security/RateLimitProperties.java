@@ -0,0 +1,62 @@
+package com.furkanbegen.creditmodule.security;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties implements Serializable {
+
+  private boolean enabled = true;
+
+  /** Upper bound on tracked customers and users; idle entries expire after one period. */
+  private int maxKeys = 100_000;
+
+  @Valid private Limit defaultLimit = new Limit(120, Duration.ofMinutes(1));
+
+  /**
+   * Per-endpoint overrides keyed by controller method name, e.g. {@code
+   * endpoints.createLoan.capacity=10}. Each API version still gets its own buckets.
+   */
+  private Map<String, @Valid Limit> endpoints = new HashMap<>();
+
+  public Limit getLimit(String endpoint) {
+    return endpoints.getOrDefault(endpoint, defaultLimit);
+  }
+
+  public Duration getLongestPeriod() {
+    Duration longest = defaultLimit.getPeriod();
+    for (Limit limit : endpoints.values()) {
+      if (limit.getPeriod().compareTo(longest) > 0) {
+        longest = limit.getPeriod();
+      }
+    }
+    return longest;
+  }
+
+  /** {@code capacity} requests per {@code period}, all of which may arrive in one burst. */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Limit implements Serializable {
+    @Positive private int capacity;
+
+    @NotNull
+    @DurationMin(nanos = 1)
+    private Duration period = Duration.ofMinutes(1);
+  }
+}
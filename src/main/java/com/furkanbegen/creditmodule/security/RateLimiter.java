@@ -0,0 +1,62 @@
+package com.furkanbegen.creditmodule.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket implemented as a generic cell rate algorithm: each key holds only the theoretical
+ * arrival time of its next request, advanced with a compare-and-set, so acquiring never locks. Keys
+ * live in a bounded cache and expire once idle for longer than a full refill.
+ */
+public class RateLimiter {
+
+  private final Cache<Key, AtomicLong> arrivals;
+  private final LongSupplier nanoClock;
+
+  public RateLimiter(int maxKeys, Duration idleExpiry) {
+    this(maxKeys, idleExpiry, System::nanoTime);
+  }
+
+  RateLimiter(int maxKeys, Duration idleExpiry, LongSupplier nanoClock) {
+    this.arrivals =
+        Caffeine.newBuilder().maximumSize(maxKeys).expireAfterAccess(idleExpiry).build();
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Takes one token from the bucket of {@code key}.
+   *
+   * @return zero when the request is allowed, otherwise the nanoseconds until it would be
+   */
+  public long tryAcquire(Key key, RateLimitProperties.Limit limit) {
+    long interval = limit.getPeriod().toNanos() / limit.getCapacity();
+    long burst = interval * limit.getCapacity();
+    AtomicLong arrival = arrivals.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+    long now = nanoClock.getAsLong();
+    while (true) {
+      long current = arrival.get();
+      long next = Math.max(current, now) + interval;
+      long allowedAt = next - burst;
+      if (allowedAt > now) {
+        return allowedAt - now;
+      }
+      if (arrival.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  /** Gives back a token taken by {@link #tryAcquire} when the request is rejected later on. */
+  public void release(Key key, RateLimitProperties.Limit limit) {
+    AtomicLong arrival = arrivals.getIfPresent(key);
+    if (arrival != null) {
+      arrival.addAndGet(-(limit.getPeriod().toNanos() / limit.getCapacity()));
+    }
+  }
+
+  public record Key(String endpoint, String scope, String id) {}
+}
@@ -0,0 +1,18 @@
+package com.furkanbegen.creditmodule.service;
+
+import java.io.Serializable;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "loan.analytics")
+public class AnalyticsProperties implements Serializable {
+
+  /** Serve the last scheduled snapshot instead of querying on every request. */
+  private boolean cacheEnabled = false;
+
+  private Duration refreshInterval = Duration.ofMinutes(5);
+}
@@ -2,6 +2,8 @@ package com.furkanbegen.creditmodule.service;
 
 import com.furkanbegen.creditmodule.dto.AuthRequestDTO;
 import com.furkanbegen.creditmodule.dto.AuthResponseDTO;
+import com.furkanbegen.creditmodule.monitoring.CreditMetrics;
+import com.furkanbegen.creditmodule.security.LoginAttemptTracker;
 import com.furkanbegen.creditmodule.security.SecurityUser;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +20,19 @@ public class AuthService {
   private final AuthenticationManager authenticationManager;
   private final JWTService jwtService;
   private final TokenRevocationService tokenRevocationService;
+  private final CreditMetrics creditMetrics;
+  private final LoginAttemptTracker loginAttemptTracker;
 
-  public AuthResponseDTO authenticateAndGetToken(AuthRequestDTO authRequest) {
+  public AuthResponseDTO authenticateAndGetToken(AuthRequestDTO authRequest, String clientIp) {
+    return creditMetrics.record(CreditMetrics.AUTH_LOGIN, () -> issueToken(authRequest, clientIp));
+  }
+
+  private AuthResponseDTO issueToken(AuthRequestDTO authRequest, String clientIp) {
+    // Refuse blocked attempts before the password is hashed; a failed attempt stays counted
+    long attemptTime = loginAttemptTracker.checkAllowed(authRequest.getEmail(), clientIp);
     Authentication authentication = authenticateUser(authRequest);
     if (authentication.isAuthenticated()) {
+      loginAttemptTracker.recordSuccess(authRequest.getEmail(), clientIp, attemptTime);
       String accessToken = jwtService.generateToken(authentication);
       var principal = (SecurityUser) authentication.getPrincipal();
 
@@ -0,0 +1,23 @@
+package com.furkanbegen.creditmodule.service;
+
+import java.io.Serializable;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "loan.credit-exposure")
+public class CreditExposureProperties implements Serializable {
+
+  private boolean enabled = true;
+
+  private int maxCustomers = 100_000;
+
+  /**
+   * How long a cached available credit is trusted. Payoffs on this instance invalidate it right
+   * away; payoffs on other instances only once it expires.
+   */
+  private Duration ttl = Duration.ofSeconds(30);
+}
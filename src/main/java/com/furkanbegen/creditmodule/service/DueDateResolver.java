@@ -0,0 +1,66 @@
+package com.furkanbegen.creditmodule.service;
+
+import com.furkanbegen.creditmodule.model.Customer;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "loan.due-date")
+public class DueDateResolver implements Serializable {
+
+  // Days 29-31 do not exist in every month, so every policy stays within 1..28 to keep the
+  // due day stable for the whole schedule.
+  public static final int MAX_DAY_OF_MONTH = 28;
+
+  private Policy policy = Policy.FIRST_DAY_OF_MONTH;
+  private int bucketCount = MAX_DAY_OF_MONTH;
+
+  public enum Policy {
+    /** Every installment is due on the 1st, the original behaviour. */
+    FIRST_DAY_OF_MONTH,
+    /** Uses the customer's preferred due day, falling back to the 1st when it is not set. */
+    FIXED_DAY_OF_MONTH,
+    /** Uses the day of month the loan was created on. */
+    ANNIVERSARY,
+    /** Spreads customers evenly over {@code bucketCount} days derived from the customer id. */
+    HASHED_BUCKET
+  }
+
+  public LocalDateTime getFirstDueDate(Customer customer, LocalDateTime createDate) {
+    return createDate
+        .plusMonths(1)
+        .withDayOfMonth(resolveDayOfMonth(customer, createDate))
+        .withHour(0)
+        .withMinute(0)
+        .withSecond(0)
+        .withNano(0);
+  }
+
+  private int resolveDayOfMonth(Customer customer, LocalDateTime createDate) {
+    return switch (policy) {
+      case FIRST_DAY_OF_MONTH -> 1;
+      case FIXED_DAY_OF_MONTH ->
+          customer.getDueDayOfMonth() != null ? clamp(customer.getDueDayOfMonth()) : 1;
+      case ANNIVERSARY -> clamp(createDate.getDayOfMonth());
+      case HASHED_BUCKET -> hashedDay(customer.getId());
+    };
+  }
+
+  private int hashedDay(Long customerId) {
+    if (customerId == null) {
+      return 1;
+    }
+    int buckets = Math.max(1, Math.min(bucketCount, MAX_DAY_OF_MONTH));
+    // Fibonacci hashing so that consecutive ids do not land on consecutive days
+    int hash = Long.hashCode(customerId) * 0x9E3779B9;
+    return 1 + Math.floorMod(hash, buckets);
+  }
+
+  private static int clamp(int dayOfMonth) {
+    return Math.max(1, Math.min(dayOfMonth, MAX_DAY_OF_MONTH));
+  }
+}
@@ -0,0 +1,18 @@
+package com.furkanbegen.creditmodule.service;
+
+import jakarta.validation.constraints.Positive;
+import java.io.Serializable;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "loan.ledger")
+public class LoanLedgerProperties implements Serializable {
+
+  /** Settled installments between two snapshots of a loan; a paid off loan always gets one. */
+  @Positive private int snapshotInterval = 6;
+}
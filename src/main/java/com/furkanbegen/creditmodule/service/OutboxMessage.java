@@ -0,0 +1,10 @@
+package com.furkanbegen.creditmodule.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * A loan change as handed to an {@link OutboxSink}. Delivery is at least once, so consumers should
+ * ignore ids they have already seen.
+ */
+public record OutboxMessage(
+    Long id, String type, Long loanId, Long customerId, String payload, LocalDateTime createdAt) {}
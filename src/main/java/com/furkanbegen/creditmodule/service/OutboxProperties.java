@@ -0,0 +1,25 @@
+package com.furkanbegen.creditmodule.service;
+
+import java.io.Serializable;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties implements Serializable {
+
+  private boolean enabled = true;
+
+  /** {@code event} for in-process listeners, {@code file} for an NDJSON file. */
+  private String sink = "event";
+
+  private int batchSize = 100;
+
+  private Duration pollInterval = Duration.ofSeconds(1);
+
+  /** Target of the {@code file} sink, appended to. */
+  private String file = "outbox/loan-events.ndjson";
+}
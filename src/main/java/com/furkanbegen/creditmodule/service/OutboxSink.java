@@ -0,0 +1,12 @@
+package com.furkanbegen.creditmodule.service;
+
+import java.util.List;
+
+/**
+ * Destination the outbox relay pushes loan changes to. A batch counts as delivered once {@link
+ * #publish} returns; if it throws, the whole batch is retried on the next poll.
+ */
+public interface OutboxSink {
+
+  void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,20 @@
+package com.furkanbegen.creditmodule.service;
+
+import jakarta.validation.constraints.Positive;
+import java.io.Serializable;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "loan.penalty-accrual")
+public class PenaltyAccrualProperties implements Serializable {
+
+  private boolean enabled = true;
+  private String cron = "0 0 1 * * *";
+  @Positive private int chunkSize = 500;
+  @Positive private int parallelism = 1;
+}
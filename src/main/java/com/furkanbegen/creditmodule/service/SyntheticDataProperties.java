@@ -0,0 +1,35 @@
+package com.furkanbegen.creditmodule.service;
+
+import java.io.Serializable;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.seed.synthetic")
+public class SyntheticDataProperties implements Serializable {
+
+  /** Generate {@code customers} synthetic customers with loans once the application is ready. */
+  private boolean enabled = false;
+
+  private int customers = 0;
+
+  /** Each customer gets between zero and this many loans. */
+  private int maxLoansPerCustomer = 3;
+
+  /** Share of loans whose borrower stopped paying before the last due installment. */
+  private double overdueRatio = 0.15;
+
+  /** Customers written per JDBC batch and transaction. */
+  private int batchSize = 1000;
+
+  /** Users are created as {@code <emailPrefix>-<n>@test.com}. */
+  private String emailPrefix = "synthetic";
+
+  /** Shared password of all synthetic users, hashed once per run. */
+  private String password = "123456";
+
+  /** Same seed, same data, so benchmark runs are comparable. */
+  private long randomSeed = 42;
+}
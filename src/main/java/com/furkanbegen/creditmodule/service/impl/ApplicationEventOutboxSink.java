@@ -0,0 +1,30 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.service.OutboxMessage;
+import com.furkanbegen.creditmodule.service.OutboxSink;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands each message to {@code @EventListener(OutboxMessage.class)} beans in this application.
+ * Listeners run on the relay thread, and an exception from one makes the batch retry.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "app.outbox",
+    name = "sink",
+    havingValue = "event",
+    matchIfMissing = true)
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  @Override
+  public void publish(List<OutboxMessage> messages) {
+    messages.forEach(applicationEventPublisher::publishEvent);
+  }
+}
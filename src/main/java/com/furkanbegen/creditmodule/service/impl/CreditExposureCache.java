@@ -0,0 +1,104 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.service.CreditExposureProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Last known available credit per customer, in cents, used to turn down loans that cannot fit
+ * before the customer row is read. It only ever rejects: a miss or a sufficient amount goes on to
+ * the regular check against the database row. Values come either from a query that skips the
+ * second-level cache or from a commit whose version check proves the row was current. Available
+ * credit only grows when a payoff releases it, which invalidates the entry, so a cached value errs
+ * on the side of letting the database decide.
+ */
+@Component
+public class CreditExposureCache {
+
+  private final CreditExposureProperties properties;
+  private final Cache<Long, AtomicLong> availableCents;
+
+  public CreditExposureCache(CreditExposureProperties properties) {
+    this.properties = properties;
+    this.availableCents =
+        Caffeine.newBuilder()
+            .maximumSize(properties.getMaxCustomers())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+  }
+
+  /** True only if the customer is known to lack {@code amount} of available credit. */
+  public boolean isKnownInsufficient(Long customerId, BigDecimal amount) {
+    if (!properties.isEnabled()) {
+      return false;
+    }
+    AtomicLong available = availableCents.getIfPresent(customerId);
+    return available != null
+        && amount.movePointRight(2).setScale(0, RoundingMode.FLOOR).longValue() > available.get();
+  }
+
+  /**
+   * Stores available credit read from the database. The value must not come from a customer entity,
+   * which may have been served from the second-level cache after another instance changed the row.
+   */
+  public void record(Long customerId, BigDecimal available) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    long cents = available.movePointRight(2).setScale(0, RoundingMode.CEILING).longValue();
+    availableCents
+        .asMap()
+        .compute(
+            customerId,
+            (id, current) -> {
+              if (current == null) {
+                return new AtomicLong(cents);
+              }
+              current.set(cents);
+              return current;
+            });
+  }
+
+  /**
+   * Stores available credit written by the current transaction once it commits. The commit's
+   * version check rejects a write based on a stale customer row, so a value that gets here is
+   * current. Until then the entry is dropped, and it stays dropped if the transaction rolls back.
+   */
+  public void recordOnCommit(Long customerId, BigDecimal available) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      record(customerId, available);
+      return;
+    }
+    availableCents.invalidate(customerId);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            record(customerId, available);
+          }
+        });
+  }
+
+  /**
+   * Forgets the customer now and again when the current transaction ends. Called whenever credit is
+   * released, so the next request reads the grown amount from the database.
+   */
+  public void invalidate(Long customerId) {
+    availableCents.invalidate(customerId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              availableCents.invalidate(customerId);
+            }
+          });
+    }
+  }
+}
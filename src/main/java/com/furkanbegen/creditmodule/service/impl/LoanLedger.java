@@ -0,0 +1,115 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.model.Loan;
+import com.furkanbegen.creditmodule.model.LoanEvent;
+import com.furkanbegen.creditmodule.model.LoanEventType;
+import com.furkanbegen.creditmodule.model.LoanInstallment;
+import com.furkanbegen.creditmodule.model.LoanSnapshot;
+import com.furkanbegen.creditmodule.repository.LoanEventRepository;
+import com.furkanbegen.creditmodule.repository.LoanSnapshotRepository;
+import com.furkanbegen.creditmodule.service.LoanLedgerProperties;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Append-only history of each loan, written in the transaction that changes the loan. Every {@code
+ * snapshotInterval} settled installments, and when the loan is paid off, the folded state is stored
+ * in {@code loan_snapshots}, so reading the current balance costs the snapshot plus a bounded tail
+ * of events however long the history grows.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanLedger {
+
+  private final LoanEventRepository loanEventRepository;
+  private final LoanSnapshotRepository loanSnapshotRepository;
+  private final LoanLedgerProperties properties;
+
+  /** Records a newly saved loan; its id must already be assigned. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordCreated(Loan loan) {
+    append(loan.getId(), LoanEventType.CREATED, null, loan.getLoanAmount(), loan.getCreateDate());
+  }
+
+  /** Records the installments one payment settled, in the order they were paid. */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordPayment(Loan loan, List<LoanInstallment> settled, LocalDateTime paidAt) {
+    for (LoanInstallment installment : settled) {
+      append(
+          loan.getId(),
+          LoanEventType.INSTALLMENT_SETTLED,
+          installment.getId(),
+          installment.getAmount(),
+          paidAt);
+      BigDecimal adjustment = installment.getPaidAmount().subtract(installment.getAmount());
+      if (adjustment.signum() < 0) {
+        append(loan.getId(), LoanEventType.DISCOUNT, installment.getId(), adjustment.abs(), paidAt);
+      } else if (adjustment.signum() > 0) {
+        append(loan.getId(), LoanEventType.PENALTY, installment.getId(), adjustment, paidAt);
+      }
+    }
+    if (loan.getIsPaid()) {
+      append(loan.getId(), LoanEventType.PAYOFF, null, loan.getLoanAmount(), paidAt);
+    }
+
+    int interval = properties.getSnapshotInterval();
+    long settledAfter = loan.getInstallments().stream().filter(LoanInstallment::getIsPaid).count();
+    long settledBefore = settledAfter - settled.size();
+    if (loan.getIsPaid() || settledBefore / interval != settledAfter / interval) {
+      snapshot(loan.getId());
+    }
+  }
+
+  /** Current state from the latest snapshot and the events appended after it. */
+  @Transactional(readOnly = true)
+  public LoanLedgerState currentState(Long loanId) {
+    LoanLedgerState state =
+        loanSnapshotRepository
+            .findById(loanId)
+            .map(LoanLedgerState::of)
+            .orElseGet(() -> LoanLedgerState.empty(loanId));
+    for (LoanEvent event :
+        loanEventRepository.findByLoanIdAndIdGreaterThanOrderByIdAsc(loanId, state.lastEventId())) {
+      state = state.apply(event);
+    }
+    return state;
+  }
+
+  /** State as of {@code asOf}, replayed from the first event without loading the whole log. */
+  @Transactional(readOnly = true)
+  public LoanLedgerState replay(Long loanId, LocalDateTime asOf) {
+    LoanLedgerState state = LoanLedgerState.empty(loanId);
+    try (Stream<LoanEvent> events =
+        loanEventRepository.streamByLoanIdAndOccurredAtLessThanEqualOrderByIdAsc(loanId, asOf)) {
+      Iterator<LoanEvent> iterator = events.iterator();
+      while (iterator.hasNext()) {
+        state = state.apply(iterator.next());
+      }
+    }
+    return state;
+  }
+
+  private void snapshot(Long loanId) {
+    LoanLedgerState state = currentState(loanId);
+    // Already in the persistence context when currentState found one
+    LoanSnapshot snapshot = loanSnapshotRepository.findById(loanId).orElseGet(LoanSnapshot::new);
+    state.copyTo(snapshot);
+    loanSnapshotRepository.save(snapshot);
+  }
+
+  private void append(
+      Long loanId,
+      LoanEventType type,
+      Long installmentId,
+      BigDecimal amount,
+      LocalDateTime occurredAt) {
+    loanEventRepository.save(new LoanEvent(loanId, type, installmentId, amount, occurredAt));
+  }
+}
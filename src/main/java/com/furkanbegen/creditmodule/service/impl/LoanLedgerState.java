@@ -0,0 +1,96 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.model.LoanEvent;
+import com.furkanbegen.creditmodule.model.LoanSnapshot;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/** Loan balance folded from ledger events, the same whether it starts from a snapshot or not. */
+record LoanLedgerState(
+    Long loanId,
+    Long lastEventId,
+    LocalDateTime lastEventAt,
+    BigDecimal loanAmount,
+    int settledInstallments,
+    BigDecimal settledAmount,
+    BigDecimal totalDiscount,
+    BigDecimal totalPenalty,
+    boolean paid) {
+
+  static LoanLedgerState empty(Long loanId) {
+    return new LoanLedgerState(
+        loanId,
+        0L,
+        null,
+        BigDecimal.ZERO,
+        0,
+        BigDecimal.ZERO,
+        BigDecimal.ZERO,
+        BigDecimal.ZERO,
+        false);
+  }
+
+  static LoanLedgerState of(LoanSnapshot snapshot) {
+    return new LoanLedgerState(
+        snapshot.getLoanId(),
+        snapshot.getLastEventId(),
+        snapshot.getLastEventAt(),
+        snapshot.getLoanAmount(),
+        snapshot.getSettledInstallments(),
+        snapshot.getSettledAmount(),
+        snapshot.getTotalDiscount(),
+        snapshot.getTotalPenalty(),
+        snapshot.getIsPaid());
+  }
+
+  LoanLedgerState apply(LoanEvent event) {
+    BigDecimal amount = event.getAmount();
+    BigDecimal newLoanAmount = loanAmount;
+    int newSettledInstallments = settledInstallments;
+    BigDecimal newSettledAmount = settledAmount;
+    BigDecimal newTotalDiscount = totalDiscount;
+    BigDecimal newTotalPenalty = totalPenalty;
+    boolean newPaid = paid;
+    switch (event.getType()) {
+      case CREATED -> newLoanAmount = amount;
+      case INSTALLMENT_SETTLED -> {
+        newSettledInstallments++;
+        newSettledAmount = newSettledAmount.add(amount);
+      }
+      case DISCOUNT -> newTotalDiscount = newTotalDiscount.add(amount);
+      case PENALTY -> newTotalPenalty = newTotalPenalty.add(amount);
+      case PAYOFF -> newPaid = true;
+    }
+    return new LoanLedgerState(
+        loanId,
+        event.getId(),
+        event.getOccurredAt(),
+        newLoanAmount,
+        newSettledInstallments,
+        newSettledAmount,
+        newTotalDiscount,
+        newTotalPenalty,
+        newPaid);
+  }
+
+  /** Amount actually received: scheduled amounts settled, less discounts, plus penalties. */
+  BigDecimal totalPaid() {
+    return settledAmount.subtract(totalDiscount).add(totalPenalty);
+  }
+
+  BigDecimal outstandingAmount() {
+    return loanAmount.subtract(settledAmount);
+  }
+
+  void copyTo(LoanSnapshot snapshot) {
+    snapshot.setLoanId(loanId);
+    snapshot.setLastEventId(lastEventId);
+    snapshot.setLastEventAt(lastEventAt);
+    snapshot.setLoanAmount(loanAmount);
+    snapshot.setSettledInstallments(settledInstallments);
+    snapshot.setSettledAmount(settledAmount);
+    snapshot.setTotalDiscount(totalDiscount);
+    snapshot.setTotalPenalty(totalPenalty);
+    snapshot.setIsPaid(paid);
+  }
+}
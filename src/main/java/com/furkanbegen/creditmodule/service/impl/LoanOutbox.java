@@ -0,0 +1,67 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.furkanbegen.creditmodule.dto.LoanPaymentResponse;
+import com.furkanbegen.creditmodule.model.Loan;
+import com.furkanbegen.creditmodule.model.OutboxEvent;
+import com.furkanbegen.creditmodule.repository.OutboxEventRepository;
+import com.furkanbegen.creditmodule.service.OutboxProperties;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Writes loan changes to the outbox inside the transaction that makes them. */
+@Component
+@RequiredArgsConstructor
+public class LoanOutbox {
+
+  public static final String LOAN_CREATED = "loan.created";
+  public static final String LOAN_PAID = "loan.paid";
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxProperties properties;
+  private final ObjectMapper objectMapper;
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void loanCreated(Loan loan) {
+    ObjectNode payload = payload(loan);
+    payload.put("loanAmount", loan.getLoanAmount());
+    payload.put("numberOfInstallment", loan.getNumberOfInstallment());
+    payload.put("createDate", loan.getCreateDate().toString());
+    append(LOAN_CREATED, loan, payload);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void loanPaid(Loan loan, LoanPaymentResponse payment) {
+    ObjectNode payload = payload(loan);
+    payload.put("numberOfInstallmentsPaid", payment.getNumberOfInstallmentsPaid());
+    payload.put("totalAmountPaid", payment.getTotalAmountPaid());
+    payload.put("totalDiscount", payment.getTotalDiscount());
+    payload.put("totalPenalty", payment.getTotalPenalty());
+    payload.put("isLoanFullyPaid", payment.isLoanFullyPaid());
+    append(LOAN_PAID, loan, payload);
+  }
+
+  private ObjectNode payload(Loan loan) {
+    ObjectNode payload = objectMapper.createObjectNode();
+    payload.put("loanId", loan.getId());
+    payload.put("customerId", loan.getCustomer().getId());
+    return payload;
+  }
+
+  private void append(String type, Loan loan, ObjectNode payload) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    outboxEventRepository.save(
+        new OutboxEvent(
+            type,
+            loan.getId(),
+            loan.getCustomer().getId(),
+            payload.toString(),
+            LocalDateTime.now()));
+  }
+}
@@ -0,0 +1,41 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/** Immutable repayment plan of a loan, shared by loan creation and quotes. */
+public record LoanSchedule(
+    BigDecimal totalAmount, BigDecimal installmentAmount, List<LocalDateTime> dueDates) {
+
+  public static LoanSchedule calculate(
+      BigDecimal loanAmount,
+      BigDecimal interestRate,
+      InstallmentOption numberOfInstallment,
+      LocalDateTime firstDueDate) {
+    // Calculate total amount with interest - this will be our loan amount
+    BigDecimal totalAmount = totalAmount(loanAmount, interestRate);
+
+    // Calculate installment amount
+    BigDecimal installmentAmount =
+        totalAmount.divide(
+            BigDecimal.valueOf(numberOfInstallment.getValue()), 2, RoundingMode.HALF_UP);
+
+    // Monthly due dates starting on the due day chosen by the configured policy
+    List<LocalDateTime> dueDates = new ArrayList<>(numberOfInstallment.getValue());
+    for (int i = 0; i < numberOfInstallment.getValue(); i++) {
+      dueDates.add(firstDueDate.plusMonths(i));
+    }
+
+    return new LoanSchedule(totalAmount, installmentAmount, Collections.unmodifiableList(dueDates));
+  }
+
+  /** Total repayable amount, which does not depend on the due dates. */
+  public static BigDecimal totalAmount(BigDecimal loanAmount, BigDecimal interestRate) {
+    return loanAmount.multiply(BigDecimal.ONE.add(interestRate)).setScale(2, RoundingMode.HALF_UP);
+  }
+}
@@ -0,0 +1,56 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of {@link LoanSchedule}s. Quotes repeat the same few amounts, rates and start
+ * months, so most lookups skip the calculation entirely. Caffeine keeps reads lock-free, which a
+ * synchronized access-ordered map could not, since every hit there reorders the entries.
+ */
+@Component
+public class LoanScheduleCache {
+
+  private final Cache<Key, LoanSchedule> schedules;
+
+  public LoanScheduleCache(@Value("${loan.quote.cache-size:10000}") int maxSize) {
+    this.schedules = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  public LoanSchedule get(
+      BigDecimal loanAmount,
+      BigDecimal interestRate,
+      InstallmentOption numberOfInstallment,
+      LocalDateTime firstDueDate) {
+    // Strip trailing zeros so 1000 and 1000.00 share an entry; the schedule only depends on the
+    // numeric value.
+    var key =
+        new Key(
+            loanAmount.stripTrailingZeros(),
+            interestRate.stripTrailingZeros(),
+            numberOfInstallment,
+            firstDueDate);
+    return schedules.get(
+        key,
+        k ->
+            LoanSchedule.calculate(
+                k.loanAmount(), k.interestRate(), k.numberOfInstallment(), k.firstDueDate()));
+  }
+
+  /** Entries held once pending evictions have run. */
+  public long size() {
+    schedules.cleanUp();
+    return schedules.estimatedSize();
+  }
+
+  private record Key(
+      BigDecimal loanAmount,
+      BigDecimal interestRate,
+      InstallmentOption numberOfInstallment,
+      LocalDateTime firstDueDate) {}
+}
@@ -1,20 +1,33 @@
 package com.furkanbegen.creditmodule.service.impl;
 
+import com.furkanbegen.creditmodule.config.ReadYourWritesTracker;
 import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
 import com.furkanbegen.creditmodule.dto.LoanFilterDTO;
+import com.furkanbegen.creditmodule.dto.LoanLedgerResponse;
 import com.furkanbegen.creditmodule.dto.LoanPaymentRequest;
 import com.furkanbegen.creditmodule.dto.LoanPaymentResponse;
+import com.furkanbegen.creditmodule.dto.LoanPayoffResponse;
+import com.furkanbegen.creditmodule.dto.LoanQuoteInstallmentDTO;
+import com.furkanbegen.creditmodule.dto.LoanQuoteResponse;
+import com.furkanbegen.creditmodule.dto.PayoffInstallmentDTO;
 import com.furkanbegen.creditmodule.exception.InsufficientCreditLimitException;
 import com.furkanbegen.creditmodule.model.Customer;
 import com.furkanbegen.creditmodule.model.Loan;
 import com.furkanbegen.creditmodule.model.LoanInstallment;
+import com.furkanbegen.creditmodule.monitoring.CreditMetrics;
 import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.LoanInstallmentRepository;
 import com.furkanbegen.creditmodule.repository.LoanRepository;
+import com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow;
+import com.furkanbegen.creditmodule.repository.projection.LoanVersionSummary;
+import com.furkanbegen.creditmodule.repository.projection.UnpaidInstallmentView;
+import com.furkanbegen.creditmodule.service.DueDateResolver;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -29,27 +42,51 @@ public class LoanService {
 
   private final CustomerRepository customerRepository;
   private final LoanRepository loanRepository;
+  private final LoanInstallmentRepository loanInstallmentRepository;
+  private final DueDateResolver dueDateResolver;
+  private final LoanScheduleCache loanScheduleCache;
+  private final CreditMetrics creditMetrics;
+  private final ReadYourWritesTracker readYourWritesTracker;
+  private final LoanLedger loanLedger;
+  private final LoanOutbox loanOutbox;
+  private final CreditExposureCache creditExposureCache;
 
   private static final BigDecimal DAILY_RATE = BigDecimal.valueOf(0.001);
   private static final int MAX_MONTHS_AHEAD = 3;
 
   @Transactional
   public Loan createLoan(Long customerId, CreateLoanRequest request) {
+    return creditMetrics.record(CreditMetrics.LOAN_CREATE, () -> doCreateLoan(customerId, request));
+  }
+
+  private Loan doCreateLoan(Long customerId, CreateLoanRequest request) {
+    // Turn down loans that cannot fit the last known available credit before any query runs
+    if (request.getLoanAmount() != null
+        && request.getInterestRate() != null
+        && creditExposureCache.isKnownInsufficient(
+            customerId,
+            LoanSchedule.totalAmount(request.getLoanAmount(), request.getInterestRate()))) {
+      throw new InsufficientCreditLimitException("Insufficient credit limit");
+    }
+
     Customer customer =
         customerRepository
             .findById(customerId)
             .orElseThrow(() -> new EntityNotFoundException("Customer not found"));
 
-    // Calculate total amount with interest - this will be our loan amount
-    BigDecimal loanAmountWithInterest =
-        request
-            .getLoanAmount()
-            .multiply(BigDecimal.ONE.add(request.getInterestRate()))
-            .setScale(2, RoundingMode.HALF_UP);
+    LocalDateTime createDate = LocalDateTime.now();
+    LoanSchedule schedule = getSchedule(customer, request, createDate);
+    BigDecimal loanAmountWithInterest = schedule.totalAmount();
 
     // Check credit limit against the total amount
     BigDecimal availableCredit = customer.getCreditLimit().subtract(customer.getUsedCreditLimit());
     if (availableCredit.compareTo(loanAmountWithInterest) < 0) {
+      // The customer may come from the second-level cache, so only remember a fresh value
+      BigDecimal freshAvailableCredit =
+          customerRepository
+              .findAvailableCreditById(customerId)
+              .orElseThrow(() -> new EntityNotFoundException("Customer not found"));
+      creditExposureCache.record(customerId, freshAvailableCredit);
       throw new InsufficientCreditLimitException("Insufficient credit limit");
     }
 
@@ -59,26 +96,16 @@ public class LoanService {
     loan.setLoanAmount(loanAmountWithInterest); // Store the total amount including interest
     loan.setNumberOfInstallment(request.getNumberOfInstallment().getValue());
     loan.setInterestRate(request.getInterestRate());
-    loan.setCreateDate(LocalDateTime.now());
+    loan.setCreateDate(createDate);
     loan.setIsPaid(false);
 
-    // Calculate installment amount
-    BigDecimal installmentAmount =
-        loanAmountWithInterest.divide(
-            BigDecimal.valueOf(request.getNumberOfInstallment().getValue()),
-            2,
-            RoundingMode.HALF_UP);
-
-    // Create installments with due dates on first day of each month
     Set<LoanInstallment> installments = new HashSet<>();
-    LocalDateTime firstDueDate = getFirstDayOfNextMonth(loan.getCreateDate());
-
-    for (int i = 0; i < request.getNumberOfInstallment().getValue(); i++) {
+    for (LocalDateTime dueDate : schedule.dueDates()) {
       LoanInstallment installment = new LoanInstallment();
       installment.setLoan(loan);
-      installment.setAmount(installmentAmount);
+      installment.setAmount(schedule.installmentAmount());
       installment.setPaidAmount(BigDecimal.ZERO);
-      installment.setDueDate(firstDueDate.plusMonths(i));
+      installment.setDueDate(dueDate);
       installment.setIsPaid(false);
       installments.add(installment);
     }
@@ -88,21 +115,64 @@ public class LoanService {
     // Update customer's used credit limit with total amount (including interest)
     customer.setUsedCreditLimit(customer.getUsedCreditLimit().add(loanAmountWithInterest));
     customerRepository.save(customer);
+    creditExposureCache.recordOnCommit(
+        customerId, availableCredit.subtract(loanAmountWithInterest));
+    readYourWritesTracker.recordWrite(customerId);
+
+    Loan savedLoan = loanRepository.save(loan);
+    loanLedger.recordCreated(savedLoan);
+    loanOutbox.loanCreated(savedLoan);
+    return savedLoan;
+  }
+
+  @Transactional(readOnly = true)
+  public LoanQuoteResponse quoteLoan(Long customerId, CreateLoanRequest request) {
+    readYourWritesTracker.routeToPrimaryIfRecentlyWritten(customerId);
+    Customer customer =
+        customerRepository
+            .findById(customerId)
+            .orElseThrow(() -> new EntityNotFoundException("Customer not found"));
+
+    LoanSchedule schedule = getSchedule(customer, request, LocalDateTime.now());
+    BigDecimal availableCredit = customer.getCreditLimit().subtract(customer.getUsedCreditLimit());
 
-    return loanRepository.save(loan);
+    return LoanQuoteResponse.builder()
+        .loanAmount(request.getLoanAmount())
+        .interestRate(request.getInterestRate())
+        .numberOfInstallment(request.getNumberOfInstallment().getValue())
+        .totalAmount(schedule.totalAmount())
+        .installmentAmount(schedule.installmentAmount())
+        .availableCredit(availableCredit)
+        .withinCreditLimit(availableCredit.compareTo(schedule.totalAmount()) >= 0)
+        .installments(
+            schedule.dueDates().stream()
+                .map(dueDate -> new LoanQuoteInstallmentDTO(dueDate, schedule.installmentAmount()))
+                .toList())
+        .build();
   }
 
-  private LocalDateTime getFirstDayOfNextMonth(LocalDateTime date) {
-    return date.plusMonths(1).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+  private LoanSchedule getSchedule(
+      Customer customer, CreateLoanRequest request, LocalDateTime createDate) {
+    return loanScheduleCache.get(
+        request.getLoanAmount(),
+        request.getInterestRate(),
+        request.getNumberOfInstallment(),
+        dueDateResolver.getFirstDueDate(customer, createDate));
   }
 
   @Transactional(readOnly = true)
-  public List<Loan> getLoans(Long customerId, LoanFilterDTO filter) {
-    if (!customerRepository.existsById(customerId)) {
+  public List<LoanInstallmentRow> getLoans(Long customerId, LoanFilterDTO filter) {
+    return creditMetrics.record(CreditMetrics.LOAN_LIST, () -> doGetLoans(customerId, filter));
+  }
+
+  private List<LoanInstallmentRow> doGetLoans(Long customerId, LoanFilterDTO filter) {
+    readYourWritesTracker.routeToPrimaryIfRecentlyWritten(customerId);
+    // findById instead of existsById, so the check is served from the second-level cache
+    if (customerRepository.findById(customerId).isEmpty()) {
       throw new EntityNotFoundException("Customer not found");
     }
 
-    return loanRepository.findLoansWithFilters(
+    return loanRepository.findLoanRowsWithFilters(
         customerId,
         filter != null ? filter.getIsPaid() : null,
         filter != null && filter.getNumberOfInstallment() != null
@@ -112,8 +182,68 @@ public class LoanService {
         LocalDateTime.now());
   }
 
+  /**
+   * ETag for {@link #getLoans}. It covers all of the customer's loans whatever the filter, so a
+   * change to any of them invalidates every filtered list.
+   */
+  @Transactional(readOnly = true)
+  public String getLoansETag(Long customerId, LoanFilterDTO filter) {
+    readYourWritesTracker.routeToPrimaryIfRecentlyWritten(customerId);
+    String eTag = eTag(loanRepository.summarizeCustomerLoanVersions(customerId));
+    if (filter == null) {
+      return eTag;
+    }
+
+    // The overdue filter also depends on the current date
+    LocalDate overdueAsOf = Boolean.TRUE.equals(filter.getIsOverdue()) ? LocalDate.now() : null;
+    return String.join(
+        "-",
+        eTag,
+        String.valueOf(filter.getIsPaid()),
+        filter.getNumberOfInstallment() != null
+            ? String.valueOf(filter.getNumberOfInstallment().getValue())
+            : "null",
+        String.valueOf(overdueAsOf));
+  }
+
+  /** ETag for a loan's installments, computed from version columns without loading them. */
+  @Transactional(readOnly = true)
+  public String getInstallmentsETag(Long customerId, Long loanId) {
+    readYourWritesTracker.routeToPrimaryIfRecentlyWritten(customerId);
+    LoanVersionSummary versions = loanRepository.summarizeLoanVersion(loanId, customerId);
+    if (versions.getLoanCount() == 0) {
+      throw new EntityNotFoundException(
+          String.format("Loan not found with id: %d for customer: %d", loanId, customerId));
+    }
+    return eTag(versions);
+  }
+
+  private static String eTag(LoanVersionSummary versions) {
+    return versions.getLoanCount()
+        + "-"
+        + versions.getLoanVersionSum()
+        + "-"
+        + versions.getInstallmentCount()
+        + "-"
+        + versions.getInstallmentVersionSum();
+  }
+
+  /** Read-only view of a loan's installments, ordered by due date, without loading entities. */
+  @Transactional(readOnly = true)
+  public List<LoanInstallmentRow> getInstallments(Long customerId, Long loanId) {
+    readYourWritesTracker.routeToPrimaryIfRecentlyWritten(customerId);
+    List<LoanInstallmentRow> rows =
+        loanRepository.findLoanRowsByIdAndCustomerId(loanId, customerId);
+    if (rows.isEmpty()) {
+      throw new EntityNotFoundException(
+          String.format("Loan not found with id: %d for customer: %d", loanId, customerId));
+    }
+    return rows;
+  }
+
   @Transactional(readOnly = true)
   public Loan getLoanWithInstallments(Long customerId, Long loanId) {
+    readYourWritesTracker.routeToPrimaryIfRecentlyWritten(customerId);
     return loanRepository
         .findByIdAndCustomerId(loanId, customerId)
         .orElseThrow(
@@ -125,6 +255,11 @@ public class LoanService {
 
   @Transactional
   public LoanPaymentResponse payLoan(Long customerId, Long loanId, LoanPaymentRequest request) {
+    return creditMetrics.record(
+        CreditMetrics.LOAN_PAY, () -> doPayLoan(customerId, loanId, request));
+  }
+
+  private LoanPaymentResponse doPayLoan(Long customerId, Long loanId, LoanPaymentRequest request) {
     Loan loan = getLoanWithInstallments(customerId, loanId);
 
     if (loan.getIsPaid()) {
@@ -132,12 +267,11 @@ public class LoanService {
     }
 
     LocalDateTime now = LocalDateTime.now();
-    LocalDateTime maxPayableDate = now.plusMonths(MAX_MONTHS_AHEAD);
 
     List<LoanInstallment> payableInstallments =
         loan.getInstallments().stream()
             .filter(installment -> !installment.getIsPaid())
-            .filter(installment -> installment.getDueDate().isBefore(maxPayableDate))
+            .filter(installment -> isPayable(installment.getDueDate(), now.toLocalDate()))
             .sorted(Comparator.comparing(LoanInstallment::getDueDate))
             .toList();
 
@@ -146,6 +280,7 @@ public class LoanService {
     }
 
     BigDecimal remainingPayment = request.getPaymentAmount();
+    List<LoanInstallment> settled = new ArrayList<>(payableInstallments.size());
     int installmentsPaid = 0;
     BigDecimal totalPaid = BigDecimal.ZERO;
     BigDecimal totalDiscount = BigDecimal.ZERO;
@@ -159,8 +294,13 @@ public class LoanService {
         installment.setIsPaid(true);
         installment.setPaidAmount(adjustedAmount);
         installment.setPaymentDate(now);
+        // The penalty is settled in paidAmount, nothing is accrued on a paid installment
+        installment.setAccruedPenalty(null);
+        installment.setDaysLate(null);
+        installment.setPenaltyAccruedAt(null);
 
         remainingPayment = remainingPayment.subtract(adjustedAmount);
+        settled.add(installment);
         installmentsPaid++;
         totalPaid = totalPaid.add(adjustedAmount);
 
@@ -190,37 +330,149 @@ public class LoanService {
       Customer customer = loan.getCustomer();
       customer.setUsedCreditLimit(customer.getUsedCreditLimit().subtract(loan.getLoanAmount()));
       customerRepository.save(customer);
+      creditExposureCache.invalidate(customerId);
     }
 
     loanRepository.save(loan);
+    loanLedger.recordPayment(loan, settled, now);
+    readYourWritesTracker.recordWrite(customerId);
+
+    LoanPaymentResponse response =
+        LoanPaymentResponse.builder()
+            .numberOfInstallmentsPaid(installmentsPaid)
+            .totalAmountPaid(totalPaid)
+            .isLoanFullyPaid(isFullyPaid)
+            .totalDiscount(totalDiscount)
+            .totalPenalty(totalPenalty)
+            .build();
+    loanOutbox.loanPaid(loan, response);
+    return response;
+  }
+
+  /**
+   * Loan balance from the ledger: the latest snapshot plus later events, or a replay of the history
+   * up to {@code asOf} when given.
+   */
+  @Transactional(readOnly = true)
+  public LoanLedgerResponse getLedger(Long customerId, Long loanId, LocalDateTime asOf) {
+    readYourWritesTracker.routeToPrimaryIfRecentlyWritten(customerId);
+    if (!loanRepository.existsByIdAndCustomerId(loanId, customerId)) {
+      throw new EntityNotFoundException(
+          String.format("Loan not found with id: %d for customer: %d", loanId, customerId));
+    }
+
+    LoanLedgerState state =
+        asOf != null ? loanLedger.replay(loanId, asOf) : loanLedger.currentState(loanId);
+    return LoanLedgerResponse.builder()
+        .loanId(loanId)
+        .asOf(asOf)
+        .lastEventAt(state.lastEventAt())
+        .loanAmount(state.loanAmount())
+        .settledInstallments(state.settledInstallments())
+        .settledAmount(state.settledAmount())
+        .outstandingAmount(state.outstandingAmount())
+        .totalPaid(state.totalPaid())
+        .totalDiscount(state.totalDiscount())
+        .totalPenalty(state.totalPenalty())
+        .isPaid(state.paid())
+        .build();
+  }
 
-    return LoanPaymentResponse.builder()
-        .numberOfInstallmentsPaid(installmentsPaid)
-        .totalAmountPaid(totalPaid)
-        .isLoanFullyPaid(isFullyPaid)
+  @Transactional(readOnly = true)
+  public LoanPayoffResponse simulatePayoff(Long customerId, Long loanId, LocalDate payoffDate) {
+    readYourWritesTracker.routeToPrimaryIfRecentlyWritten(customerId);
+    List<UnpaidInstallmentView> unpaidInstallments =
+        loanInstallmentRepository.findUnpaidByLoanIdAndCustomerId(loanId, customerId);
+
+    if (unpaidInstallments.isEmpty()) {
+      if (!loanRepository.existsByIdAndCustomerId(loanId, customerId)) {
+        throw new EntityNotFoundException(
+            String.format("Loan not found with id: %d for customer: %d", loanId, customerId));
+      }
+      throw new IllegalStateException("Loan is already fully paid");
+    }
+
+    LocalDateTime paymentDate = payoffDate.atStartOfDay();
+
+    List<PayoffInstallmentDTO> installments = new ArrayList<>(unpaidInstallments.size());
+    BigDecimal totalPayoffAmount = BigDecimal.ZERO;
+    BigDecimal payableAmount = BigDecimal.ZERO;
+    BigDecimal totalDiscount = BigDecimal.ZERO;
+    BigDecimal totalPenalty = BigDecimal.ZERO;
+
+    for (UnpaidInstallmentView installment : unpaidInstallments) {
+      BigDecimal adjustedAmount =
+          calculateAdjustedAmount(installment.getAmount(), installment.getDueDate(), paymentDate);
+      BigDecimal adjustment = adjustedAmount.subtract(installment.getAmount());
+      BigDecimal discount = adjustment.signum() < 0 ? adjustment.abs() : BigDecimal.ZERO;
+      BigDecimal penalty = adjustment.signum() > 0 ? adjustment : BigDecimal.ZERO;
+      boolean payable = isPayable(installment.getDueDate(), payoffDate);
+
+      installments.add(
+          PayoffInstallmentDTO.builder()
+              .installmentId(installment.getId())
+              .dueDate(installment.getDueDate())
+              .amount(installment.getAmount())
+              .adjustedAmount(adjustedAmount)
+              .discount(discount)
+              .penalty(penalty)
+              .payable(payable)
+              .build());
+
+      totalPayoffAmount = totalPayoffAmount.add(adjustedAmount);
+      totalDiscount = totalDiscount.add(discount);
+      totalPenalty = totalPenalty.add(penalty);
+      if (payable) {
+        payableAmount = payableAmount.add(adjustedAmount);
+      }
+    }
+
+    return LoanPayoffResponse.builder()
+        .loanId(loanId)
+        .payoffDate(payoffDate)
+        .totalPayoffAmount(totalPayoffAmount)
         .totalDiscount(totalDiscount)
         .totalPenalty(totalPenalty)
+        .payableAmount(payableAmount)
+        .installments(installments)
         .build();
   }
 
+  /**
+   * Installments due up to {@link #MAX_MONTHS_AHEAD} months after the payment day, that day
+   * included, can be paid. Shared by payLoan and simulatePayoff so both draw the same line.
+   */
+  private static boolean isPayable(LocalDateTime dueDate, LocalDate paymentDay) {
+    return !dueDate.toLocalDate().isAfter(paymentDay.plusMonths(MAX_MONTHS_AHEAD));
+  }
+
   private BigDecimal calculateAdjustedAmount(
       LoanInstallment installment, LocalDateTime paymentDate) {
-    long daysDifference =
-        ChronoUnit.DAYS.between(installment.getDueDate().toLocalDate(), paymentDate.toLocalDate());
+    return calculateAdjustedAmount(installment.getAmount(), installment.getDueDate(), paymentDate);
+  }
+
+  private BigDecimal calculateAdjustedAmount(
+      BigDecimal amount, LocalDateTime dueDate, LocalDateTime paymentDate) {
+    long daysDifference = ChronoUnit.DAYS.between(dueDate.toLocalDate(), paymentDate.toLocalDate());
 
     if (daysDifference == 0) {
-      return installment.getAmount();
+      return amount;
     }
 
-    BigDecimal adjustmentRate = DAILY_RATE.multiply(BigDecimal.valueOf(Math.abs(daysDifference)));
-    BigDecimal adjustment = installment.getAmount().multiply(adjustmentRate);
+    BigDecimal adjustment = calculateAdjustment(amount, Math.abs(daysDifference));
 
     if (daysDifference < 0) {
       // Payment before due date - apply discount
-      return installment.getAmount().subtract(adjustment);
+      return amount.subtract(adjustment);
     } else {
       // Payment after due date - apply penalty
-      return installment.getAmount().add(adjustment);
+      return amount.add(adjustment);
     }
   }
+
+  /** Discount or penalty for paying {@code days} days away from the due date. */
+  static BigDecimal calculateAdjustment(BigDecimal amount, long days) {
+    BigDecimal adjustmentRate = DAILY_RATE.multiply(BigDecimal.valueOf(days));
+    return amount.multiply(adjustmentRate);
+  }
 }
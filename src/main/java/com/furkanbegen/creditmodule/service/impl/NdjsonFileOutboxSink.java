@@ -0,0 +1,61 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.furkanbegen.creditmodule.service.OutboxMessage;
+import com.furkanbegen.creditmodule.service.OutboxProperties;
+import com.furkanbegen.creditmodule.service.OutboxSink;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Appends one JSON object per line to {@code app.outbox.file}, for local consumers and tests. */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "sink", havingValue = "file")
+public class NdjsonFileOutboxSink implements OutboxSink {
+
+  private final Path file;
+  private final ObjectMapper objectMapper;
+
+  public NdjsonFileOutboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+    this.file = Path.of(properties.getFile());
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public synchronized void publish(List<OutboxMessage> messages) {
+    try {
+      if (file.getParent() != null) {
+        Files.createDirectories(file.getParent());
+      }
+      try (BufferedWriter writer =
+          Files.newBufferedWriter(
+              file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+        for (OutboxMessage message : messages) {
+          writer.write(toJson(message));
+          writer.newLine();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not append outbox messages to " + file, e);
+    }
+  }
+
+  private String toJson(OutboxMessage message) throws IOException {
+    ObjectNode line = objectMapper.createObjectNode();
+    line.put("id", message.id());
+    line.put("type", message.type());
+    line.put("loanId", message.loanId());
+    line.put("customerId", message.customerId());
+    line.put("createdAt", message.createdAt().toString());
+    line.set("payload", objectMapper.readTree(message.payload()));
+    return objectMapper.writeValueAsString(line);
+  }
+}
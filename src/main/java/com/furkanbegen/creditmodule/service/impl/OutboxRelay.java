@@ -0,0 +1,90 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.config.ShardContext;
+import com.furkanbegen.creditmodule.config.ShardMap;
+import com.furkanbegen.creditmodule.model.OutboxEvent;
+import com.furkanbegen.creditmodule.repository.OutboxEventRepository;
+import com.furkanbegen.creditmodule.service.OutboxMessage;
+import com.furkanbegen.creditmodule.service.OutboxProperties;
+import com.furkanbegen.creditmodule.service.OutboxSink;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the outbox to the configured {@link OutboxSink} every {@code app.outbox.poll-interval}.
+ * Each batch is read, published and marked in one transaction, so a failed publish leaves the batch
+ * in place for the next poll. With sharding enabled every shard's outbox is drained.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "app.outbox",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class OutboxRelay {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final OutboxSink outboxSink;
+  private final OutboxProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final ShardMap shardMap;
+
+  @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+  public void drain() {
+    for (int shard = 0; shard < shardMap.getShardCount(); shard++) {
+      try {
+        ShardContext.callOn(shard, this::drainCurrent);
+      } catch (RuntimeException e) {
+        log.warn("Outbox relay failed on shard {}, retrying on the next poll", shard, e);
+      }
+    }
+  }
+
+  /** Publishes batches until the outbox is empty; returns the number of messages published. */
+  public int drainCurrent() {
+    int published = 0;
+    int batch;
+    do {
+      batch = relayBatch();
+      published += batch;
+    } while (batch == properties.getBatchSize());
+    return published;
+  }
+
+  private int relayBatch() {
+    Integer relayed =
+        transactionTemplate.execute(
+            status -> {
+              List<OutboxEvent> events =
+                  outboxEventRepository.findUnpublished(
+                      PageRequest.of(0, properties.getBatchSize()));
+              if (events.isEmpty()) {
+                return 0;
+              }
+              outboxSink.publish(events.stream().map(OutboxRelay::toMessage).toList());
+              outboxEventRepository.markPublished(
+                  events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+              return events.size();
+            });
+    return relayed != null ? relayed : 0;
+  }
+
+  private static OutboxMessage toMessage(OutboxEvent event) {
+    return new OutboxMessage(
+        event.getId(),
+        event.getType(),
+        event.getLoanId(),
+        event.getCustomerId(),
+        event.getPayload(),
+        event.getCreatedAt());
+  }
+}
@@ -0,0 +1,250 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.config.ShardContext;
+import com.furkanbegen.creditmodule.config.ShardMap;
+import com.furkanbegen.creditmodule.model.JobCheckpoint;
+import com.furkanbegen.creditmodule.model.LoanInstallment;
+import com.furkanbegen.creditmodule.repository.JobCheckpointRepository;
+import com.furkanbegen.creditmodule.repository.LoanInstallmentRepository;
+import com.furkanbegen.creditmodule.service.PenaltyAccrualProperties;
+import jakarta.annotation.PreDestroy;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Stores the penalty accrued so far on every overdue installment, so reads no longer need to
+ * recompute it per row. Installments are walked in id order in chunks of {@code chunkSize}; each
+ * chunk and its checkpoint are committed together, so an interrupted run resumes after the last
+ * committed chunk. With {@code parallelism > 1} the id space is split by {@code id % parallelism}
+ * and every partition has its own worker and checkpoint. With sharding enabled the nightly run
+ * processes the shards one after another, each against its own checkpoints.
+ *
+ * <p>Every instance runs the schedule. A chunk reads its checkpoint with a row lock, so instances
+ * on the same partition take turns instead of racing: each continues after the chunk the other
+ * committed. A chunk that loses to a concurrent payment on an installment's version is retried, and
+ * after {@link #MAX_CHUNK_ATTEMPTS} conflicts it is skipped so the rest of the partition still
+ * accrues.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "loan.penalty-accrual",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class PenaltyAccrualJob {
+
+  static final String JOB_NAME = "penalty-accrual";
+  static final int MAX_CHUNK_ATTEMPTS = 3;
+
+  private final LoanInstallmentRepository loanInstallmentRepository;
+  private final JobCheckpointRepository jobCheckpointRepository;
+  private final PenaltyAccrualProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final ShardMap shardMap;
+
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  /** One worker per partition, reused by every run. */
+  private final ExecutorService executor;
+
+  public PenaltyAccrualJob(
+      LoanInstallmentRepository loanInstallmentRepository,
+      JobCheckpointRepository jobCheckpointRepository,
+      PenaltyAccrualProperties properties,
+      TransactionTemplate transactionTemplate,
+      ShardMap shardMap) {
+    this.loanInstallmentRepository = loanInstallmentRepository;
+    this.jobCheckpointRepository = jobCheckpointRepository;
+    this.properties = properties;
+    this.transactionTemplate = transactionTemplate;
+    this.shardMap = shardMap;
+    this.executor = Executors.newFixedThreadPool(properties.getParallelism());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Scheduled(cron = "${loan.penalty-accrual.cron:0 0 1 * * *}")
+  public void runNightly() {
+    LocalDate runDate = LocalDate.now();
+    for (int shard = 0; shard < shardMap.getShardCount(); shard++) {
+      ShardContext.callOn(
+          shard,
+          () -> {
+            run(runDate);
+            return null;
+          });
+    }
+  }
+
+  public void run(LocalDate runDate) {
+    if (!running.compareAndSet(false, true)) {
+      log.warn("Penalty accrual is already running, skipping run for {}", runDate);
+      return;
+    }
+
+    int partitionCount = properties.getParallelism();
+    Integer shard = ShardContext.current();
+    List<Future<Integer>> partitions = new ArrayList<>(partitionCount);
+    try {
+      for (int partitionNo = 0; partitionNo < partitionCount; partitionNo++) {
+        int partition = partitionNo;
+        partitions.add(
+            executor.submit(
+                () ->
+                    ShardContext.callOn(
+                        shard, () -> accruePartition(runDate, partition, partitionCount))));
+      }
+
+      // Every partition is awaited, even after one failed, so no worker outlives the flag
+      int processed = 0;
+      for (Future<Integer> partition : partitions) {
+        try {
+          processed += partition.get();
+        } catch (ExecutionException e) {
+          log.error(
+              "Penalty accrual partition for {} failed, it will resume from its checkpoint",
+              runDate,
+              e.getCause());
+        }
+      }
+      log.info("Penalty accrual for {} updated {} installments", runDate, processed);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      partitions.forEach(partition -> partition.cancel(true));
+      log.warn("Penalty accrual for {} interrupted, it will resume from its checkpoint", runDate);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private int accruePartition(LocalDate runDate, int partitionNo, int partitionCount) {
+    Boolean pending;
+    try {
+      pending =
+          transactionTemplate.execute(
+              status -> prepareCheckpoint(runDate, partitionNo, partitionCount));
+    } catch (DataIntegrityViolationException e) {
+      // Another instance created the partition's first checkpoint at the same time, use theirs
+      pending =
+          transactionTemplate.execute(
+              status -> prepareCheckpoint(runDate, partitionNo, partitionCount));
+    }
+    if (!Boolean.TRUE.equals(pending)) {
+      return 0;
+    }
+
+    int processed = 0;
+    int walked;
+    do {
+      walked = accrueChunkWithRetry(runDate, partitionNo, partitionCount);
+      processed += walked;
+    } while (walked == properties.getChunkSize());
+
+    return processed;
+  }
+
+  private int accrueChunkWithRetry(LocalDate runDate, int partitionNo, int partitionCount) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionTemplate.execute(
+            status -> accrueChunk(runDate, partitionNo, partitionCount, true));
+      } catch (OptimisticLockingFailureException e) {
+        if (attempt == MAX_CHUNK_ATTEMPTS) {
+          log.warn(
+              "Penalty accrual for {} skips a chunk of partition {} after {} version conflicts",
+              runDate,
+              partitionNo,
+              attempt);
+          return transactionTemplate.execute(
+              status -> accrueChunk(runDate, partitionNo, partitionCount, false));
+        }
+        // Rolled back, the next attempt reads the installments again
+      }
+    }
+  }
+
+  private boolean prepareCheckpoint(LocalDate runDate, int partitionNo, int partitionCount) {
+    JobCheckpoint checkpoint =
+        jobCheckpointRepository
+            .findByJobNameAndPartitionNo(JOB_NAME, partitionNo)
+            .orElseGet(JobCheckpoint::new);
+
+    boolean sameRun =
+        runDate.equals(checkpoint.getRunDate())
+            && Integer.valueOf(partitionCount).equals(checkpoint.getPartitionCount());
+
+    if (sameRun && checkpoint.getCompleted()) {
+      return false;
+    }
+
+    if (!sameRun) {
+      // Results only depend on the run date, so starting over on a new day or a different
+      // partitioning is always safe.
+      checkpoint.setJobName(JOB_NAME);
+      checkpoint.setPartitionNo(partitionNo);
+      checkpoint.setPartitionCount(partitionCount);
+      checkpoint.setRunDate(runDate);
+      checkpoint.setLastProcessedId(0L);
+      checkpoint.setCompleted(false);
+      jobCheckpointRepository.save(checkpoint);
+    }
+
+    return true;
+  }
+
+  /** With {@code accrue} false the chunk is only walked past, its installments are left as is. */
+  private int accrueChunk(LocalDate runDate, int partitionNo, int partitionCount, boolean accrue) {
+    JobCheckpoint checkpoint =
+        jobCheckpointRepository
+            .findByJobNameAndPartitionNo(JOB_NAME, partitionNo)
+            .orElseThrow(() -> new IllegalStateException("Checkpoint not found"));
+
+    LocalDateTime asOf = runDate.atStartOfDay();
+    List<LoanInstallment> installments =
+        loanInstallmentRepository.findOverdueChunk(
+            asOf,
+            checkpoint.getLastProcessedId(),
+            partitionCount,
+            partitionNo,
+            PageRequest.of(0, properties.getChunkSize()));
+
+    if (accrue) {
+      for (LoanInstallment installment : installments) {
+        long daysLate = ChronoUnit.DAYS.between(installment.getDueDate().toLocalDate(), runDate);
+        installment.setDaysLate((int) daysLate);
+        installment.setAccruedPenalty(
+            LoanService.calculateAdjustment(installment.getAmount(), daysLate)
+                .setScale(2, RoundingMode.HALF_UP));
+        installment.setPenaltyAccruedAt(asOf);
+      }
+    }
+
+    if (!installments.isEmpty()) {
+      checkpoint.setLastProcessedId(installments.get(installments.size() - 1).getId());
+    }
+    checkpoint.setCompleted(installments.size() < properties.getChunkSize());
+
+    return installments.size();
+  }
+}
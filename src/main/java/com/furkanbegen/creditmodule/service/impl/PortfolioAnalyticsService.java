@@ -0,0 +1,182 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.config.ShardExecutor;
+import com.furkanbegen.creditmodule.dto.InstallmentOptionTotalsDTO;
+import com.furkanbegen.creditmodule.dto.PortfolioAnalyticsDTO;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.LoanInstallmentRepository;
+import com.furkanbegen.creditmodule.repository.LoanRepository;
+import com.furkanbegen.creditmodule.repository.projection.CreditUtilizationSummary;
+import com.furkanbegen.creditmodule.repository.projection.InstallmentStatusSummary;
+import com.furkanbegen.creditmodule.service.AnalyticsProperties;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Portfolio-wide totals. With sharding enabled the aggregates are computed on every shard in its
+ * own read-only transaction and merged here.
+ */
+@Slf4j
+@Service
+public class PortfolioAnalyticsService {
+
+  private final LoanRepository loanRepository;
+  private final LoanInstallmentRepository loanInstallmentRepository;
+  private final CustomerRepository customerRepository;
+  private final AnalyticsProperties properties;
+  private final ShardExecutor shardExecutor;
+  private final TransactionTemplate readOnlyTransaction;
+
+  private final AtomicReference<PortfolioAnalyticsDTO> snapshot = new AtomicReference<>();
+
+  public PortfolioAnalyticsService(
+      LoanRepository loanRepository,
+      LoanInstallmentRepository loanInstallmentRepository,
+      CustomerRepository customerRepository,
+      AnalyticsProperties properties,
+      ShardExecutor shardExecutor,
+      PlatformTransactionManager transactionManager) {
+    this.loanRepository = loanRepository;
+    this.loanInstallmentRepository = loanInstallmentRepository;
+    this.customerRepository = customerRepository;
+    this.properties = properties;
+    this.shardExecutor = shardExecutor;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  public PortfolioAnalyticsDTO getPortfolioAnalytics(boolean fresh) {
+    if (fresh || !properties.isCacheEnabled()) {
+      return computePortfolioAnalytics();
+    }
+
+    PortfolioAnalyticsDTO cached = snapshot.get();
+    if (cached == null) {
+      cached = computePortfolioAnalytics();
+      snapshot.set(cached);
+    }
+    return cached;
+  }
+
+  @Scheduled(fixedDelayString = "${loan.analytics.refresh-interval:PT5M}")
+  public void refreshSnapshot() {
+    if (properties.isCacheEnabled()) {
+      snapshot.set(computePortfolioAnalytics());
+      log.debug("Portfolio analytics snapshot refreshed");
+    }
+  }
+
+  private PortfolioAnalyticsDTO computePortfolioAnalytics() {
+    LocalDateTime now = LocalDateTime.now();
+    return merge(
+        now,
+        shardExecutor.onAllShards(
+            () -> readOnlyTransaction.execute(status -> computeShardAnalytics(now))));
+  }
+
+  private PortfolioAnalyticsDTO computeShardAnalytics(LocalDateTime now) {
+    List<InstallmentOptionTotalsDTO> byInstallmentOption =
+        loanRepository.summarizeByNumberOfInstallment().stream()
+            .map(
+                summary ->
+                    InstallmentOptionTotalsDTO.builder()
+                        .numberOfInstallment(
+                            InstallmentOption.fromValue(summary.getNumberOfInstallment()))
+                        .loanCount(summary.getLoanCount())
+                        .paidLoanCount(summary.getPaidLoanCount())
+                        .unpaidLoanCount(summary.getLoanCount() - summary.getPaidLoanCount())
+                        .totalAmount(summary.getTotalAmount())
+                        .build())
+            .toList();
+
+    InstallmentStatusSummary installments =
+        loanInstallmentRepository.summarizeInstallmentStatus(now);
+    CreditUtilizationSummary credit = customerRepository.summarizeCreditUtilization();
+
+    return PortfolioAnalyticsDTO.builder()
+        .generatedAt(now)
+        .byInstallmentOption(byInstallmentOption)
+        .totalInstallments(installments.getTotalCount())
+        .paidInstallments(installments.getPaidCount())
+        .unpaidInstallments(installments.getTotalCount() - installments.getPaidCount())
+        .overdueInstallments(installments.getOverdueCount())
+        .outstandingExposure(installments.getOutstandingAmount())
+        .overdueExposure(installments.getOverdueAmount())
+        .customerCount(credit.getCustomerCount())
+        .totalCreditLimit(credit.getTotalCreditLimit())
+        .totalUsedCreditLimit(credit.getTotalUsedCreditLimit())
+        .creditUtilization(utilization(credit))
+        .build();
+  }
+
+  private PortfolioAnalyticsDTO merge(LocalDateTime now, List<PortfolioAnalyticsDTO> shards) {
+    if (shards.size() == 1) {
+      return shards.get(0);
+    }
+
+    Map<InstallmentOption, InstallmentOptionTotalsDTO> byInstallmentOption = new TreeMap<>();
+    PortfolioAnalyticsDTO total =
+        PortfolioAnalyticsDTO.builder()
+            .generatedAt(now)
+            .outstandingExposure(BigDecimal.ZERO)
+            .overdueExposure(BigDecimal.ZERO)
+            .totalCreditLimit(BigDecimal.ZERO)
+            .totalUsedCreditLimit(BigDecimal.ZERO)
+            .build();
+
+    for (PortfolioAnalyticsDTO shard : shards) {
+      for (InstallmentOptionTotalsDTO option : shard.getByInstallmentOption()) {
+        byInstallmentOption.merge(
+            option.getNumberOfInstallment(),
+            option,
+            (a, b) ->
+                InstallmentOptionTotalsDTO.builder()
+                    .numberOfInstallment(a.getNumberOfInstallment())
+                    .loanCount(a.getLoanCount() + b.getLoanCount())
+                    .paidLoanCount(a.getPaidLoanCount() + b.getPaidLoanCount())
+                    .unpaidLoanCount(a.getUnpaidLoanCount() + b.getUnpaidLoanCount())
+                    .totalAmount(a.getTotalAmount().add(b.getTotalAmount()))
+                    .build());
+      }
+      total.setTotalInstallments(total.getTotalInstallments() + shard.getTotalInstallments());
+      total.setPaidInstallments(total.getPaidInstallments() + shard.getPaidInstallments());
+      total.setUnpaidInstallments(total.getUnpaidInstallments() + shard.getUnpaidInstallments());
+      total.setOverdueInstallments(total.getOverdueInstallments() + shard.getOverdueInstallments());
+      total.setOutstandingExposure(
+          total.getOutstandingExposure().add(shard.getOutstandingExposure()));
+      total.setOverdueExposure(total.getOverdueExposure().add(shard.getOverdueExposure()));
+      total.setCustomerCount(total.getCustomerCount() + shard.getCustomerCount());
+      total.setTotalCreditLimit(total.getTotalCreditLimit().add(shard.getTotalCreditLimit()));
+      total.setTotalUsedCreditLimit(
+          total.getTotalUsedCreditLimit().add(shard.getTotalUsedCreditLimit()));
+    }
+
+    total.setByInstallmentOption(new ArrayList<>(byInstallmentOption.values()));
+    total.setCreditUtilization(
+        utilization(total.getTotalCreditLimit(), total.getTotalUsedCreditLimit()));
+    return total;
+  }
+
+  private BigDecimal utilization(CreditUtilizationSummary credit) {
+    return utilization(credit.getTotalCreditLimit(), credit.getTotalUsedCreditLimit());
+  }
+
+  private BigDecimal utilization(BigDecimal totalCreditLimit, BigDecimal totalUsedCreditLimit) {
+    if (totalCreditLimit.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    return totalUsedCreditLimit.divide(totalCreditLimit, 4, RoundingMode.HALF_UP);
+  }
+}
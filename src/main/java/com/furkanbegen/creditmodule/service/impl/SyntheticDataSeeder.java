@@ -0,0 +1,414 @@
+package com.furkanbegen.creditmodule.service.impl;
+
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.model.LoanEventType;
+import com.furkanbegen.creditmodule.service.SyntheticDataProperties;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generates production-sized data for index, pagination and query benchmarks. Rows are written with
+ * batched JDBC inserts, one transaction per batch of customers, and every user shares a single
+ * BCrypt hash, so millions of rows take minutes instead of hours.
+ *
+ * <p>Loans are spread over the last two years. Installments due in the past are paid, except on the
+ * {@code overdueRatio} share of loans whose borrower stopped paying at a random point. Customers'
+ * used credit covers their unpaid loans. Each loan gets the ledger events {@link LoanLedger} would
+ * have appended for it, without snapshots. Everything is written to the default database, so
+ * sharded setups are not supported.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyntheticDataSeeder {
+
+  private static final String INSERT_USER =
+      "INSERT INTO users (email, password, name, surname, created_at, version)"
+          + " VALUES (?, ?, ?, ?, ?, 0)";
+  private static final String INSERT_USER_ROLE =
+      "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+  private static final String INSERT_CUSTOMER =
+      "INSERT INTO customers (name, surname, credit_limit, used_credit_limit, user_id,"
+          + " created_at, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+  private static final String INSERT_LOAN =
+      "INSERT INTO loans (customer_id, loan_amount, interest_rate, number_of_installment,"
+          + " create_date, is_paid, created_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+  private static final String INSERT_INSTALLMENT =
+      "INSERT INTO loan_installments (loan_id, amount, paid_amount, due_date, payment_date,"
+          + " is_paid, created_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+  private static final String INSERT_LOAN_EVENT =
+      "INSERT INTO loan_events (loan_id, event_type, installment_id, amount, occurred_at)"
+          + " VALUES (?, ?, ?, ?, ?)";
+
+  private static final BigDecimal CREDIT_HEADROOM = BigDecimal.valueOf(100_000);
+  private static final InstallmentOption[] INSTALLMENT_OPTIONS = InstallmentOption.values();
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final PasswordEncoder passwordEncoder;
+  private final SyntheticDataProperties properties;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void seedOnStartup() {
+    if (!properties.isEnabled() || properties.getCustomers() <= 0) {
+      return;
+    }
+    if (isSeeded(properties.getEmailPrefix())) {
+      log.info("Synthetic data with prefix '{}' already exists", properties.getEmailPrefix());
+      return;
+    }
+    seed(
+        properties.getEmailPrefix(),
+        properties.getCustomers(),
+        properties.getMaxLoansPerCustomer());
+  }
+
+  public boolean isSeeded(String emailPrefix) {
+    Integer users =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email(emailPrefix, 0));
+    return users != null && users > 0;
+  }
+
+  public SeedSummary seed(String emailPrefix, int customers, int maxLoansPerCustomer) {
+    long start = System.nanoTime();
+    String passwordHash = passwordEncoder.encode(properties.getPassword());
+    Long roleId =
+        jdbcTemplate.queryForObject(
+            "SELECT id FROM roles WHERE name = ?", Long.class, "ROLE_CUSTOMER");
+    SplittableRandom random = new SplittableRandom(properties.getRandomSeed());
+    LocalDateTime now = LocalDateTime.now();
+
+    int batchSize = Math.max(properties.getBatchSize(), 1);
+    long loans = 0;
+    long installments = 0;
+    for (int from = 0; from < customers; from += batchSize) {
+      List<SyntheticCustomer> batch = new ArrayList<>(batchSize);
+      for (int i = from; i < Math.min(from + batchSize, customers); i++) {
+        batch.add(randomCustomer(emailPrefix, i, maxLoansPerCustomer, random, now));
+      }
+      transactionTemplate.executeWithoutResult(
+          status ->
+              jdbcTemplate.execute(
+                  (ConnectionCallback<Void>)
+                      connection -> {
+                        insertBatch(connection, batch, passwordHash, roleId, now);
+                        return null;
+                      }));
+
+      for (SyntheticCustomer customer : batch) {
+        loans += customer.loans().size();
+        for (SyntheticLoan loan : customer.loans()) {
+          installments += loan.dueDates().size();
+        }
+      }
+      log.debug("Seeded {}/{} synthetic customers", from + batch.size(), customers);
+    }
+
+    SeedSummary summary =
+        new SeedSummary(
+            customers, loans, installments, Duration.ofNanos(System.nanoTime() - start));
+    log.info("Synthetic data seeded: {}", summary);
+    return summary;
+  }
+
+  private void insertBatch(
+      Connection connection,
+      List<SyntheticCustomer> customers,
+      String passwordHash,
+      Long roleId,
+      LocalDateTime now)
+      throws SQLException {
+    Timestamp createdAt = Timestamp.valueOf(now);
+
+    long[] userIds =
+        insertReturningIds(
+            connection,
+            INSERT_USER,
+            customers.size(),
+            (statement, i) -> {
+              SyntheticCustomer customer = customers.get(i);
+              statement.setString(1, customer.email());
+              statement.setString(2, passwordHash);
+              statement.setString(3, customer.name());
+              statement.setString(4, customer.surname());
+              statement.setTimestamp(5, createdAt);
+            });
+
+    insert(
+        connection,
+        INSERT_USER_ROLE,
+        userIds.length,
+        (statement, i) -> {
+          statement.setLong(1, userIds[i]);
+          statement.setLong(2, roleId);
+        });
+
+    long[] customerIds =
+        insertReturningIds(
+            connection,
+            INSERT_CUSTOMER,
+            customers.size(),
+            (statement, i) -> {
+              SyntheticCustomer customer = customers.get(i);
+              statement.setString(1, customer.name());
+              statement.setString(2, customer.surname());
+              statement.setBigDecimal(3, customer.usedCreditLimit().add(CREDIT_HEADROOM));
+              statement.setBigDecimal(4, customer.usedCreditLimit());
+              statement.setLong(5, userIds[i]);
+              statement.setTimestamp(6, createdAt);
+            });
+
+    List<SyntheticLoan> loans = new ArrayList<>();
+    List<Long> loanCustomerIds = new ArrayList<>();
+    for (int i = 0; i < customers.size(); i++) {
+      for (SyntheticLoan loan : customers.get(i).loans()) {
+        loans.add(loan);
+        loanCustomerIds.add(customerIds[i]);
+      }
+    }
+    if (loans.isEmpty()) {
+      return;
+    }
+
+    long[] loanIds =
+        insertReturningIds(
+            connection,
+            INSERT_LOAN,
+            loans.size(),
+            (statement, i) -> {
+              SyntheticLoan loan = loans.get(i);
+              statement.setLong(1, loanCustomerIds.get(i));
+              statement.setBigDecimal(2, loan.totalAmount());
+              statement.setBigDecimal(3, loan.interestRate());
+              statement.setInt(4, loan.dueDates().size());
+              statement.setTimestamp(5, Timestamp.valueOf(loan.createDate()));
+              statement.setBoolean(6, loan.isPaid());
+              statement.setTimestamp(7, createdAt);
+            });
+
+    List<SyntheticInstallment> installments = new ArrayList<>();
+    for (int i = 0; i < loans.size(); i++) {
+      SyntheticLoan loan = loans.get(i);
+      for (int n = 0; n < loan.dueDates().size(); n++) {
+        LocalDateTime dueDate = loan.dueDates().get(n);
+        LocalDateTime paymentDate =
+            n < loan.paidInstallments() ? dueDate.minusDays(loan.daysEarly()) : null;
+        installments.add(
+            new SyntheticInstallment(loanIds[i], loan.installmentAmount(), dueDate, paymentDate));
+      }
+    }
+    long[] installmentIds =
+        insertReturningIds(
+            connection,
+            INSERT_INSTALLMENT,
+            installments.size(),
+            (statement, i) -> {
+              SyntheticInstallment installment = installments.get(i);
+              boolean paid = installment.paymentDate() != null;
+              statement.setLong(1, installment.loanId());
+              statement.setBigDecimal(2, installment.amount());
+              statement.setBigDecimal(3, paid ? installment.amount() : BigDecimal.ZERO);
+              statement.setTimestamp(4, Timestamp.valueOf(installment.dueDate()));
+              statement.setTimestamp(5, paid ? Timestamp.valueOf(installment.paymentDate()) : null);
+              statement.setBoolean(6, paid);
+              statement.setTimestamp(7, createdAt);
+            });
+
+    // Same events LoanLedger appends; installments are paid in full, so no discounts or penalties
+    try (PreparedStatement statement = connection.prepareStatement(INSERT_LOAN_EVENT)) {
+      int installment = 0;
+      for (int i = 0; i < loans.size(); i++) {
+        SyntheticLoan loan = loans.get(i);
+        addEvent(
+            statement,
+            loanIds[i],
+            LoanEventType.CREATED,
+            null,
+            loan.totalAmount(),
+            loan.createDate());
+        LocalDateTime lastPaymentDate = loan.createDate();
+        for (int n = 0; n < loan.dueDates().size(); n++, installment++) {
+          SyntheticInstallment paid = installments.get(installment);
+          if (paid.paymentDate() != null) {
+            lastPaymentDate = paid.paymentDate();
+            addEvent(
+                statement,
+                loanIds[i],
+                LoanEventType.INSTALLMENT_SETTLED,
+                installmentIds[installment],
+                paid.amount(),
+                lastPaymentDate);
+          }
+        }
+        if (loan.isPaid()) {
+          addEvent(
+              statement,
+              loanIds[i],
+              LoanEventType.PAYOFF,
+              null,
+              loan.totalAmount(),
+              lastPaymentDate);
+        }
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private static void addEvent(
+      PreparedStatement statement,
+      long loanId,
+      LoanEventType type,
+      Long installmentId,
+      BigDecimal amount,
+      LocalDateTime occurredAt)
+      throws SQLException {
+    statement.setLong(1, loanId);
+    statement.setString(2, type.name());
+    statement.setObject(3, installmentId, Types.BIGINT);
+    statement.setBigDecimal(4, amount);
+    statement.setTimestamp(5, Timestamp.valueOf(occurredAt));
+    statement.addBatch();
+  }
+
+  private SyntheticCustomer randomCustomer(
+      String emailPrefix,
+      int index,
+      int maxLoansPerCustomer,
+      SplittableRandom random,
+      LocalDateTime now) {
+    int loanCount = maxLoansPerCustomer > 0 ? random.nextInt(maxLoansPerCustomer + 1) : 0;
+    List<SyntheticLoan> loans = new ArrayList<>(loanCount);
+    BigDecimal usedCreditLimit = BigDecimal.ZERO;
+    for (int i = 0; i < loanCount; i++) {
+      SyntheticLoan loan = randomLoan(random, now);
+      loans.add(loan);
+      if (!loan.isPaid()) {
+        usedCreditLimit = usedCreditLimit.add(loan.totalAmount());
+      }
+    }
+    return new SyntheticCustomer(
+        email(emailPrefix, index), "Synthetic", "Customer " + index, usedCreditLimit, loans);
+  }
+
+  private SyntheticLoan randomLoan(SplittableRandom random, LocalDateTime now) {
+    int numberOfInstallment =
+        INSTALLMENT_OPTIONS[random.nextInt(INSTALLMENT_OPTIONS.length)].getValue();
+    BigDecimal principal = BigDecimal.valueOf(1_000L * (1 + random.nextInt(50)));
+    BigDecimal interestRate = BigDecimal.valueOf(10 + random.nextInt(41), 2);
+    BigDecimal totalAmount =
+        principal.multiply(BigDecimal.ONE.add(interestRate)).setScale(2, RoundingMode.HALF_UP);
+    BigDecimal installmentAmount =
+        totalAmount.divide(BigDecimal.valueOf(numberOfInstallment), 2, RoundingMode.HALF_UP);
+
+    LocalDateTime createDate = now.minusDays(random.nextInt(730)).withNano(0);
+    List<LocalDateTime> dueDates = new ArrayList<>(numberOfInstallment);
+    int dueSoFar = 0;
+    for (int n = 1; n <= numberOfInstallment; n++) {
+      LocalDateTime dueDate =
+          createDate.toLocalDate().withDayOfMonth(1).plusMonths(n).atStartOfDay();
+      dueDates.add(dueDate);
+      if (dueDate.isBefore(now)) {
+        dueSoFar++;
+      }
+    }
+
+    boolean overdue = dueSoFar > 0 && random.nextDouble() < properties.getOverdueRatio();
+    int paidInstallments = overdue ? random.nextInt(dueSoFar) : dueSoFar;
+    return new SyntheticLoan(
+        totalAmount,
+        interestRate,
+        installmentAmount,
+        createDate,
+        dueDates,
+        paidInstallments,
+        random.nextInt(10),
+        paidInstallments == numberOfInstallment);
+  }
+
+  private static String email(String emailPrefix, int index) {
+    return emailPrefix + "-" + index + "@test.com";
+  }
+
+  private static long[] insertReturningIds(
+      Connection connection, String sql, int rows, RowBinder binder) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql, new String[] {"id"})) {
+      for (int i = 0; i < rows; i++) {
+        binder.bind(statement, i);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+
+      long[] ids = new long[rows];
+      int count = 0;
+      try (ResultSet keys = statement.getGeneratedKeys()) {
+        while (keys.next()) {
+          ids[count++] = keys.getLong(1);
+        }
+      }
+      if (count != rows) {
+        throw new IllegalStateException(
+            String.format("Expected %d generated keys but the driver returned %d", rows, count));
+      }
+      return ids;
+    }
+  }
+
+  private static void insert(Connection connection, String sql, int rows, RowBinder binder)
+      throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      for (int i = 0; i < rows; i++) {
+        binder.bind(statement, i);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  @FunctionalInterface
+  private interface RowBinder {
+    void bind(PreparedStatement statement, int row) throws SQLException;
+  }
+
+  private record SyntheticCustomer(
+      String email,
+      String name,
+      String surname,
+      BigDecimal usedCreditLimit,
+      List<SyntheticLoan> loans) {}
+
+  private record SyntheticLoan(
+      BigDecimal totalAmount,
+      BigDecimal interestRate,
+      BigDecimal installmentAmount,
+      LocalDateTime createDate,
+      List<LocalDateTime> dueDates,
+      int paidInstallments,
+      int daysEarly,
+      boolean isPaid) {}
+
+  private record SyntheticInstallment(
+      long loanId, BigDecimal amount, LocalDateTime dueDate, LocalDateTime paymentDate) {}
+
+  public record SeedSummary(long customers, long loans, long installments, Duration elapsed) {}
+}
@@ -0,0 +1,101 @@
+CREATE TABLE roles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    created_by BIGINT,
+    updated_by BIGINT,
+    version BIGINT,
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    surname VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    created_by BIGINT,
+    updated_by BIGINT,
+    version BIGINT,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    role_id BIGINT NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE customers (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    surname VARCHAR(255) NOT NULL,
+    credit_limit NUMERIC(38, 2) NOT NULL,
+    used_credit_limit NUMERIC(38, 2) NOT NULL,
+    due_day_of_month INTEGER,
+    user_id BIGINT REFERENCES users (id),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    created_by BIGINT,
+    updated_by BIGINT,
+    version BIGINT,
+    CONSTRAINT uk_customers_user_id UNIQUE (user_id)
+);
+
+CREATE TABLE loans (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id BIGINT REFERENCES customers (id),
+    loan_amount NUMERIC(38, 2) NOT NULL,
+    interest_rate NUMERIC(38, 2) NOT NULL,
+    number_of_installment INTEGER NOT NULL,
+    create_date TIMESTAMP(6) NOT NULL,
+    is_paid BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    created_by BIGINT,
+    updated_by BIGINT,
+    version BIGINT
+);
+
+CREATE INDEX idx_loans_customer_id ON loans (customer_id);
+
+CREATE TABLE loan_installments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    loan_id BIGINT REFERENCES loans (id),
+    amount NUMERIC(38, 2) NOT NULL,
+    paid_amount NUMERIC(38, 2),
+    due_date TIMESTAMP(6) NOT NULL,
+    payment_date TIMESTAMP(6),
+    is_paid BOOLEAN NOT NULL,
+    accrued_penalty NUMERIC(38, 2),
+    days_late INTEGER,
+    penalty_accrued_at TIMESTAMP(6),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    created_by BIGINT,
+    updated_by BIGINT,
+    version BIGINT
+);
+
+CREATE INDEX idx_loan_installments_loan_id ON loan_installments (loan_id);
+-- Overdue scans (penalty accrual, analytics) only look at unpaid rows by due date
+CREATE INDEX idx_loan_installments_unpaid_due_date ON loan_installments (is_paid, due_date);
+
+CREATE TABLE job_checkpoints (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_name VARCHAR(255) NOT NULL,
+    partition_no INTEGER NOT NULL,
+    partition_count INTEGER NOT NULL,
+    run_date DATE NOT NULL,
+    last_processed_id BIGINT NOT NULL,
+    completed BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    created_by BIGINT,
+    updated_by BIGINT,
+    version BIGINT,
+    CONSTRAINT uk_job_checkpoints_job_partition UNIQUE (job_name, partition_no)
+);
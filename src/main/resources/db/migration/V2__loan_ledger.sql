@@ -0,0 +1,63 @@
+CREATE TABLE loan_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    loan_id BIGINT NOT NULL REFERENCES loans (id),
+    event_type VARCHAR(32) NOT NULL,
+    installment_id BIGINT,
+    amount NUMERIC(38, 2) NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL
+);
+
+-- Replays and post-snapshot reads walk one loan's events in id order
+CREATE INDEX idx_loan_events_loan_id_id ON loan_events (loan_id, id);
+
+CREATE TABLE loan_snapshots (
+    loan_id BIGINT PRIMARY KEY REFERENCES loans (id),
+    last_event_id BIGINT NOT NULL,
+    last_event_at TIMESTAMP(6) NOT NULL,
+    loan_amount NUMERIC(38, 2) NOT NULL,
+    settled_installments INTEGER NOT NULL,
+    settled_amount NUMERIC(38, 2) NOT NULL,
+    total_discount NUMERIC(38, 2) NOT NULL,
+    total_penalty NUMERIC(38, 2) NOT NULL,
+    is_paid BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    created_by BIGINT,
+    updated_by BIGINT,
+    version BIGINT
+);
+
+-- Backfill loans written before the ledger, one contiguous run of events per loan in the order
+-- LoanLedger would have appended them. Paid installments become INSTALLMENT_SETTLED with a
+-- DISCOUNT or PENALTY for the difference to the scheduled amount, and paid loans end with PAYOFF.
+-- No snapshots are written; reads fold these events from the start until the next payment.
+INSERT INTO loan_events (loan_id, event_type, installment_id, amount, occurred_at)
+SELECT loan_id, event_type, installment_id, amount, occurred_at
+FROM (
+    SELECT l.id AS loan_id, 'CREATED' AS event_type, CAST(NULL AS BIGINT) AS installment_id,
+        l.loan_amount AS amount, l.create_date AS occurred_at, 0 AS phase, 0 AS step
+    FROM loans l
+    UNION ALL
+    SELECT i.loan_id, 'INSTALLMENT_SETTLED', i.id, i.amount,
+        COALESCE(i.payment_date, i.due_date), 1, 0
+    FROM loan_installments i
+    WHERE i.is_paid = TRUE
+    UNION ALL
+    SELECT i.loan_id, 'DISCOUNT', i.id, i.amount - i.paid_amount,
+        COALESCE(i.payment_date, i.due_date), 1, 1
+    FROM loan_installments i
+    WHERE i.is_paid = TRUE AND i.paid_amount < i.amount
+    UNION ALL
+    SELECT i.loan_id, 'PENALTY', i.id, i.paid_amount - i.amount,
+        COALESCE(i.payment_date, i.due_date), 1, 1
+    FROM loan_installments i
+    WHERE i.is_paid = TRUE AND i.paid_amount > i.amount
+    UNION ALL
+    SELECT l.id, 'PAYOFF', NULL, l.loan_amount,
+        COALESCE(MAX(COALESCE(i.payment_date, i.due_date)), l.create_date), 2, 0
+    FROM loans l
+    LEFT JOIN loan_installments i ON i.loan_id = l.id
+    WHERE l.is_paid = TRUE
+    GROUP BY l.id, l.loan_amount, l.create_date
+) backfill
+ORDER BY loan_id, phase, occurred_at, installment_id, step;
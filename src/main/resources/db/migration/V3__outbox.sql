@@ -0,0 +1,12 @@
+CREATE TABLE outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(64) NOT NULL,
+    loan_id BIGINT NOT NULL,
+    customer_id BIGINT NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6)
+);
+
+-- The relay reads unpublished rows in id order
+CREATE INDEX idx_outbox_events_published_at_id ON outbox_events (published_at, id);
@@ -0,0 +1,164 @@
+package com.furkanbegen.creditmodule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Starts the native binary built by {@code mvn -Pnative verify} on its default in-memory H2
+ * database and walks through login, loan creation and the loan list. Startup time and resident
+ * memory are logged.
+ */
+@Slf4j
+class NativeSmokeIT {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+  // customer@test.com is the first customer InsertUserComponent seeds into the fresh database
+  private static final String LOANS_PATH = "/api/v1/customers/1/loans";
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private Process process;
+
+  private String baseUrl;
+
+  private String managementUrl;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Path binary = Path.of(System.getProperty("native.binary", "target/credit-module"));
+    assertThat(binary).isExecutable();
+
+    int port = freePort();
+    int managementPort = freePort();
+    baseUrl = "http://localhost:" + port;
+    managementUrl = "http://localhost:" + managementPort;
+
+    long start = System.nanoTime();
+    process =
+        new ProcessBuilder(
+                binary.toString(),
+                "--server.port=" + port,
+                "--management.server.port=" + managementPort)
+            .redirectErrorStream(true)
+            .redirectOutput(Path.of("target", "native-smoke.log").toFile())
+            .start();
+    awaitHealthy();
+    log.info(
+        "Native binary served its first request after {} ms, RSS {}",
+        Duration.ofNanos(System.nanoTime() - start).toMillis(),
+        residentMemory().orElse("unknown"));
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    if (process != null) {
+      process.destroy();
+      process.waitFor();
+    }
+  }
+
+  @Test
+  void loginAndLoanFlow_ShouldWorkInNativeImage() throws Exception {
+    // Given
+    HttpResponse<String> login =
+        send(
+            "POST",
+            "/api/v1/login",
+            null,
+            "{\"email\":\"customer@test.com\",\"password\":\"123456\"}");
+    assertThat(login.statusCode()).isEqualTo(200);
+    String token = objectMapper.readTree(login.body()).get("accessToken").asText();
+
+    // When
+    HttpResponse<String> created =
+        send(
+            "POST",
+            LOANS_PATH,
+            token,
+            "{\"loanAmount\":1200,\"interestRate\":0.1,\"numberOfInstallment\":\"SIX\"}");
+    HttpResponse<String> loans = send("GET", LOANS_PATH, token, null);
+
+    // Then - entities with LAZY associations, projections and JSON all work without a JVM
+    assertThat(created.statusCode()).isEqualTo(200);
+    long loanId = objectMapper.readTree(created.body()).get("id").asLong();
+    assertThat(loans.statusCode()).isEqualTo(200);
+    JsonNode loanList = objectMapper.readTree(loans.body());
+    assertThat(loanList.findValues("id")).extracting(JsonNode::asLong).contains(loanId);
+    assertThat(loanList.get(0).get("installments")).hasSize(6);
+  }
+
+  private void awaitHealthy() throws InterruptedException {
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      assertThat(process.isAlive())
+          .as("native binary exited, see target/native-smoke.log")
+          .isTrue();
+      try {
+        HttpResponse<Void> health =
+            httpClient.send(
+                HttpRequest.newBuilder(URI.create(managementUrl + "/actuator/health")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (health.statusCode() == 200) {
+          return;
+        }
+      } catch (IOException e) {
+        // Not listening yet
+      }
+      Thread.sleep(50);
+    }
+    throw new IllegalStateException("Native binary did not become healthy in " + STARTUP_TIMEOUT);
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private Optional<String> residentMemory() throws IOException {
+    Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+    if (!Files.exists(status)) {
+      return Optional.empty();
+    }
+    return Files.readAllLines(status).stream()
+        .filter(line -> line.startsWith("VmRSS:"))
+        .map(line -> line.substring("VmRSS:".length()).trim())
+        .findFirst();
+  }
+
+  private HttpResponse<String> send(String method, String path, String token, String body)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(10))
+            .header("Content-Type", "application/json")
+            .method(
+                method,
+                body != null
+                    ? HttpRequest.BodyPublishers.ofString(body)
+                    : HttpRequest.BodyPublishers.noBody());
+    if (token != null) {
+      request.header("Authorization", "Bearer " + token);
+    }
+    return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+}
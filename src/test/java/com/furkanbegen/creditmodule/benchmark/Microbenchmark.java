@@ -0,0 +1,28 @@
+package com.furkanbegen.creditmodule.benchmark;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Timing loop for the tests tagged {@code benchmark}, which only run with {@code -Pbenchmark}.
+ * Results compare alternatives within one run on one machine, so callers log them instead of
+ * asserting on them. Every result is written to a volatile field so the JIT cannot eliminate the
+ * measured call.
+ */
+public final class Microbenchmark {
+
+  private static volatile Object sink;
+
+  private Microbenchmark() {}
+
+  /** Average nanoseconds per call over {@code iterations} calls, after as many warm-up calls. */
+  public static long nanosPerOperation(int iterations, Callable<?> operation) throws Exception {
+    for (int i = 0; i < iterations; i++) {
+      sink = operation.call();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      sink = operation.call();
+    }
+    return (System.nanoTime() - start) / iterations;
+  }
+}
@@ -0,0 +1,98 @@
+package com.furkanbegen.creditmodule.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furkanbegen.creditmodule.benchmark.Microbenchmark;
+import com.furkanbegen.creditmodule.dto.LoanInstallmentDTO;
+import com.furkanbegen.creditmodule.dto.LoanResponseDTO;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Writes a loan list (10 loans of 24 installments) with the CBOR converter's mapper and compares it
+ * with the JSON the same list produces.
+ */
+@Slf4j
+class CborSerializationTest {
+
+  private static final int ITERATIONS = 2_000;
+
+  private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private final ObjectMapper cborMapper =
+      new CborMessageConverterConfig()
+          .cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json())
+          .getObjectMapper();
+
+  @Test
+  void loanList_ShouldBeSmallerInCborAndRoundTrip() throws Exception {
+    // Given
+    List<LoanResponseDTO> loans = loans(10, 24);
+
+    // When
+    byte[] json = jsonMapper.writeValueAsBytes(loans);
+    byte[] cbor = cborMapper.writeValueAsBytes(loans);
+    List<LoanResponseDTO> decoded = cborMapper.readValue(cbor, new TypeReference<>() {});
+
+    // Then
+    assertThat(cbor.length).isLessThan(json.length);
+    assertThat(decoded).isEqualTo(loans);
+  }
+
+  @Test
+  @Tag("benchmark")
+  void loanList_SerializationTime() throws Exception {
+    // Given
+    List<LoanResponseDTO> loans = loans(10, 24);
+
+    // When
+    long jsonNanos =
+        Microbenchmark.nanosPerOperation(ITERATIONS, () -> jsonMapper.writeValueAsBytes(loans));
+    long cborNanos =
+        Microbenchmark.nanosPerOperation(ITERATIONS, () -> cborMapper.writeValueAsBytes(loans));
+
+    // Then
+    log.info(
+        "Writing {} loans of 24 installments: JSON {} us/op, CBOR {} us/op",
+        loans.size(),
+        jsonNanos / 1_000,
+        cborNanos / 1_000);
+  }
+
+  private static List<LoanResponseDTO> loans(int count, int installments) {
+    LocalDateTime createDate = LocalDateTime.of(2025, 1, 15, 10, 30);
+    List<LoanResponseDTO> loans = new ArrayList<>(count);
+    for (long loanId = 1; loanId <= count; loanId++) {
+      LoanResponseDTO loan = new LoanResponseDTO();
+      loan.setId(loanId);
+      loan.setCustomerId(1L);
+      loan.setLoanAmount(new BigDecimal("26400.00"));
+      loan.setNumberOfInstallment(installments);
+      loan.setCreateDate(createDate);
+
+      List<LoanInstallmentDTO> dtos = new ArrayList<>(installments);
+      for (int i = 1; i <= installments; i++) {
+        LoanInstallmentDTO installment = new LoanInstallmentDTO();
+        installment.setId(loanId * 100 + i);
+        installment.setAmount(new BigDecimal("1100.00"));
+        installment.setPaidAmount(i <= 3 ? new BigDecimal("1098.90") : BigDecimal.ZERO);
+        installment.setDueDate(
+            createDate.toLocalDate().plusMonths(i).withDayOfMonth(1).atStartOfDay());
+        installment.setPaymentDate(i <= 3 ? createDate.plusMonths(i) : null);
+        installment.setIsPaid(i <= 3);
+        dtos.add(installment);
+      }
+      loan.setInstallments(dtos);
+      loans.add(loan);
+    }
+    return loans;
+  }
+}
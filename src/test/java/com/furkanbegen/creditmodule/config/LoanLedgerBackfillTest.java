@@ -0,0 +1,67 @@
+package com.furkanbegen.creditmodule.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/** Migrates a database that already holds loans to V2 and checks the backfilled ledger events. */
+class LoanLedgerBackfillTest {
+
+  private final DriverManagerDataSource dataSource =
+      new DriverManagerDataSource(
+          "jdbc:h2:mem:ledgerbackfill;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+          "sa",
+          "");
+
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+  @Test
+  void migrate_ShouldBackfillLedgerEventsForExistingLoans() {
+    // Given - an open loan with one discounted payment and a paid off loan with a late payment
+    migrate("1");
+    jdbcTemplate.update(
+        "INSERT INTO loans (id, loan_amount, interest_rate, number_of_installment, create_date,"
+            + " is_paid) VALUES (1, 600, 0.2, 2, '2025-01-10 10:00:00', false),"
+            + " (2, 300, 0.2, 1, '2025-02-10 10:00:00', true)");
+    jdbcTemplate.update(
+        "INSERT INTO loan_installments (id, loan_id, amount, paid_amount, due_date, payment_date,"
+            + " is_paid) VALUES"
+            + " (10, 1, 300, 290, '2025-02-01 00:00:00', '2025-01-20 00:00:00', true),"
+            + " (11, 1, 300, 0, '2025-03-01 00:00:00', NULL, false),"
+            + " (20, 2, 300, 310, '2025-03-01 00:00:00', '2025-03-05 00:00:00', true)");
+
+    // When
+    migrate("2");
+
+    // Then
+    assertThat(events(1L))
+        .containsExactly(
+            "CREATED:null:600.00", "INSTALLMENT_SETTLED:10:300.00", "DISCOUNT:10:10.00");
+    assertThat(events(2L))
+        .containsExactly(
+            "CREATED:null:300.00",
+            "INSTALLMENT_SETTLED:20:300.00",
+            "PENALTY:20:10.00",
+            "PAYOFF:null:300.00");
+  }
+
+  private void migrate(String target) {
+    Flyway.configure().dataSource(dataSource).target(target).load().migrate();
+  }
+
+  private List<String> events(Long loanId) {
+    return jdbcTemplate.query(
+        "SELECT event_type, installment_id, amount FROM loan_events WHERE loan_id = ? ORDER BY id",
+        (rs, row) ->
+            rs.getString("event_type")
+                + ":"
+                + rs.getObject("installment_id")
+                + ":"
+                + rs.getBigDecimal("amount"),
+        loanId);
+  }
+}
@@ -0,0 +1,44 @@
+package com.furkanbegen.creditmodule.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+// Tests leave metrics export off unless asked, which would drop the Prometheus endpoint
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ManagementPortTest {
+
+  @LocalServerPort private int port;
+
+  @LocalManagementPort private int managementPort;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @Test
+  void prometheus_ShouldOnlyBeServedOnManagementPort() throws Exception {
+    // When
+    HttpResponse<String> management = get(managementPort, "/actuator/prometheus");
+    HttpResponse<String> api = get(port, "/actuator/prometheus");
+
+    // Then - the API port has no actuator endpoints, so an anonymous caller is turned away
+    assertThat(managementPort).isNotEqualTo(port);
+    assertThat(management.statusCode()).isEqualTo(200);
+    assertThat(management.body()).contains("jvm_memory_used_bytes");
+    assertThat(api.statusCode()).isEqualTo(401);
+  }
+
+  private HttpResponse<String> get(int port, String path) throws Exception {
+    return httpClient.send(
+        HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+        HttpResponse.BodyHandlers.ofString());
+  }
+}
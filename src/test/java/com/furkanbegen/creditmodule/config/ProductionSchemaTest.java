@@ -0,0 +1,39 @@
+package com.furkanbegen.creditmodule.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.RoleRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Boots the prod profile against H2 in PostgreSQL mode. Startup fails if the Flyway migrations do
+ * not match the entity mappings, because the profile runs Hibernate with {@code ddl-auto=validate}.
+ */
+@SpringBootTest(
+    properties =
+        "spring.datasource.url=jdbc:h2:mem:prodschema;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH")
+@ActiveProfiles({"prod", "h2pg"})
+class ProductionSchemaTest {
+
+  @Autowired private Flyway flyway;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private RoleRepository roleRepository;
+
+  @Test
+  void prodProfile_ShouldMigrateSchemaThatMatchesEntities() {
+    // Then
+    assertThat(flyway.info().current()).isNotNull();
+    assertThat(flyway.info().pending()).isEmpty();
+    assertThat(roleRepository.findByName("ROLE_CUSTOMER")).isPresent();
+    // Demo users are only seeded outside prod
+    assertThat(customerRepository.count()).isZero();
+  }
+}
@@ -0,0 +1,96 @@
+package com.furkanbegen.creditmodule.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReadReplicaRoutingDataSourceTest {
+
+  private JdbcTemplate jdbcTemplate;
+
+  private TransactionTemplate readWriteTransaction;
+
+  private TransactionTemplate readOnlyTransaction;
+
+  private ReadYourWritesTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    // Two separate H2 instances, each labelled so a query shows where it was routed
+    DataSource primary = h2("primary");
+    DataSource replica = h2("replica");
+    DataSource dataSource =
+        new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replica));
+
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    readWriteTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+
+    ReadReplicaProperties properties = new ReadReplicaProperties();
+    properties.setEnabled(true);
+    properties.setReadYourWritesWindow(Duration.ofMinutes(1));
+    tracker = new ReadYourWritesTracker(properties);
+  }
+
+  @Test
+  void determineCurrentLookupKey_ShouldRouteReadOnlyTransactionsToReplica() {
+    // When
+    String readOnly = readOnlyTransaction.execute(status -> currentInstance());
+    String readWrite = readWriteTransaction.execute(status -> currentInstance());
+
+    // Then
+    assertThat(readOnly).isEqualTo("replica");
+    assertThat(readWrite).isEqualTo("primary");
+    assertThat(currentInstance()).isEqualTo("primary");
+  }
+
+  @Test
+  void routeToPrimaryIfRecentlyWritten_ShouldReadFromPrimaryAfterCustomersWrite() {
+    // Given
+    readWriteTransaction.executeWithoutResult(status -> tracker.recordWrite(1L));
+
+    // When
+    String writer =
+        readOnlyTransaction.execute(
+            status -> {
+              tracker.routeToPrimaryIfRecentlyWritten(1L);
+              return currentInstance();
+            });
+    String otherCustomer =
+        readOnlyTransaction.execute(
+            status -> {
+              tracker.routeToPrimaryIfRecentlyWritten(2L);
+              return currentInstance();
+            });
+    String writerNextTransaction = readOnlyTransaction.execute(status -> currentInstance());
+
+    // Then - the fallback only applies to the transaction that asked for it
+    assertThat(writer).isEqualTo("primary");
+    assertThat(otherCustomer).isEqualTo("replica");
+    assertThat(writerNextTransaction).isEqualTo("replica");
+  }
+
+  private String currentInstance() {
+    return jdbcTemplate.queryForObject("SELECT name FROM instance", String.class);
+  }
+
+  private static DataSource h2(String name) {
+    DataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS instance (name VARCHAR(20))");
+    jdbcTemplate.update("DELETE FROM instance");
+    jdbcTemplate.update("INSERT INTO instance (name) VALUES (?)", name);
+    return dataSource;
+  }
+}
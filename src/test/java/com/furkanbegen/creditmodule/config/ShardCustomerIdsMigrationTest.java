@@ -0,0 +1,56 @@
+package com.furkanbegen.creditmodule.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class ShardCustomerIdsMigrationTest {
+
+  private final DriverManagerDataSource dataSource =
+      new DriverManagerDataSource("jdbc:h2:mem:shardids;DB_CLOSE_DELAY=-1", "sa", "");
+
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+  private long nextUserId = 1000;
+
+  @Test
+  void migrate_ShouldAllocateShardCustomerIdsAndRunAgainOnlyWhenLayoutChanges() {
+    // Given
+    migrate(1, 2);
+
+    // When - customers without a user, which only shard 0 holds
+    long first = insertCustomer();
+    long second = insertCustomer();
+
+    // Then
+    assertThat(first % 2).isEqualTo(1);
+    assertThat(second).isEqualTo(first + 2);
+    assertThat(migrate(1, 2).migrationsExecuted).isZero();
+
+    // When - a third shard is added
+    assertThat(migrate(1, 3).migrationsExecuted).isEqualTo(1);
+
+    // Then
+    assertThat(insertCustomer()).isGreaterThan(second).satisfies(id -> assertThat(id % 3).isOne());
+  }
+
+  private MigrateResult migrate(int shardNo, int shardCount) {
+    return Flyway.configure()
+        .dataSource(dataSource)
+        .javaMigrations(new ShardCustomerIdsMigration(shardNo, shardCount))
+        .load()
+        .migrate();
+  }
+
+  private long insertCustomer() {
+    jdbcTemplate.update(
+        "INSERT INTO customers (name, surname, credit_limit, used_credit_limit, user_id)"
+            + " VALUES ('Shard', 'Customer', 1000, 0, ?)",
+        nextUserId++);
+    return jdbcTemplate.queryForObject("SELECT MAX(id) FROM customers", Long.class);
+  }
+}
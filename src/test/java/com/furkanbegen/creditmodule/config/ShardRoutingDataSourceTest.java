@@ -0,0 +1,81 @@
+package com.furkanbegen.creditmodule.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class ShardRoutingDataSourceTest {
+
+  private ShardingProperties properties;
+
+  private JdbcTemplate jdbcTemplate;
+
+  private ShardExecutor shardExecutor;
+
+  @BeforeEach
+  void setUp() {
+    properties = new ShardingProperties();
+    properties.setEnabled(true);
+    properties.setShards(List.of(new ShardingProperties.Shard(), new ShardingProperties.Shard()));
+    properties.getCustomerShards().put(7L, 0);
+
+    ShardMap shardMap = new ShardMap(properties);
+    jdbcTemplate =
+        new JdbcTemplate(new ShardRoutingDataSource(List.of(h2("shard0"), h2("shard1"))));
+    shardExecutor = new ShardExecutor(shardMap);
+  }
+
+  @AfterEach
+  void tearDown() {
+    shardExecutor.shutdown();
+    ShardContext.clear();
+  }
+
+  @Test
+  void shardFor_ShouldUseExplicitAssignmentOrCustomerIdModulo() {
+    // Given
+    ShardMap shardMap = new ShardMap(properties);
+
+    // When/Then
+    assertThat(shardMap.shardFor(4L)).isZero();
+    assertThat(shardMap.shardFor(5L)).isEqualTo(1);
+    assertThat(shardMap.shardFor(7L)).isZero();
+  }
+
+  @Test
+  void determineCurrentLookupKey_ShouldUseShardFromContextAndDefaultToFirstShard() {
+    // When/Then
+    assertThat(currentShard()).isEqualTo("shard0");
+    assertThat(ShardContext.callOn(1, this::currentShard)).isEqualTo("shard1");
+    assertThat(currentShard()).isEqualTo("shard0");
+  }
+
+  @Test
+  void onAllShards_ShouldRunActionOnEveryShardInOrder() {
+    // When
+    List<String> shards = shardExecutor.onAllShards(this::currentShard);
+
+    // Then
+    assertThat(shards).containsExactly("shard0", "shard1");
+  }
+
+  private String currentShard() {
+    return jdbcTemplate.queryForObject("SELECT name FROM shard", String.class);
+  }
+
+  private static DataSource h2(String name) {
+    DataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS shard (name VARCHAR(20))");
+    jdbcTemplate.update("DELETE FROM shard");
+    jdbcTemplate.update("INSERT INTO shard (name) VALUES (?)", name);
+    return dataSource;
+  }
+}
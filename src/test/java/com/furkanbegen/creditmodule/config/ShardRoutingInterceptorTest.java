@@ -0,0 +1,84 @@
+package com.furkanbegen.creditmodule.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.model.Customer;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.model.User;
+import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.UserRepository;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("shards")
+class ShardRoutingInterceptorTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void createLoan_WhenCustomerLivesOnSecondShard_ShouldWriteLoanToThatShard() throws Exception {
+    // Given - the user on shard 0, its customer on shard 1
+    User user = new User();
+    user.setEmail("sharded@test.com");
+    user.setPassword("unused");
+    user.setName("Sharded");
+    user.setSurname("Customer");
+    Long userId = userRepository.save(user).getId();
+    Customer customer = new Customer();
+    customer.setName("Sharded");
+    customer.setSurname("Customer");
+    customer.setCreditLimit(BigDecimal.valueOf(100000));
+    customer.setUsedCreditLimit(BigDecimal.ZERO);
+    customer.setUser(user);
+    Long customerId = ShardContext.callOn(1, () -> customerRepository.save(customer).getId());
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(BigDecimal.valueOf(1200));
+    request.setInterestRate(BigDecimal.valueOf(0.1));
+    request.setNumberOfInstallment(InstallmentOption.SIX);
+
+    // When
+    mockMvc
+        .perform(
+            post("/api/v1/customers/{customerId}/loans", customerId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .with(
+                    jwt()
+                        .jwt(token -> token.claim("user_id", userId))
+                        .authorities(new SimpleGrantedAuthority("ROLE_CUSTOMER"))))
+        .andExpect(status().isOk());
+
+    // Then
+    assertThat(customerId % 2).isEqualTo(1);
+    assertThat(ShardContext.callOn(0, () -> loanCount(customerId))).isZero();
+    assertThat(ShardContext.callOn(1, () -> loanCount(customerId))).isEqualTo(1);
+  }
+
+  private Integer loanCount(Long customerId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM loans WHERE customer_id = ?", Integer.class, customerId);
+  }
+}
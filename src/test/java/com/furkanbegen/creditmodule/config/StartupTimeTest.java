@@ -0,0 +1,66 @@
+package com.furkanbegen.creditmodule.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.CreditModuleApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures time-to-first-request, from launching the application until {@code /actuator/health}
+ * answers on the management port, in the default mode and with the {@code fast-start} profile. Both
+ * runs start a full context, so the test only runs with {@code -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class StartupTimeTest {
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @Test
+  void fastStartProfile_ShouldServeFirstRequest() throws Exception {
+    // When
+    Duration standard = timeToFirstRequest("startup-standard");
+    Duration fastStart = timeToFirstRequest("startup-fast", "fast-start");
+    log.info(
+        "Time to first request: default {} ms, fast-start {} ms",
+        standard.toMillis(),
+        fastStart.toMillis());
+
+    // Then
+    assertThat(fastStart).isPositive();
+  }
+
+  private Duration timeToFirstRequest(String database, String... profiles) throws Exception {
+    long start = System.nanoTime();
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(CreditModuleApplication.class)
+            .profiles(profiles)
+            .properties(
+                "server.port=0",
+                "management.server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:" + database,
+                "spring.jpa.show-sql=false",
+                "loan.penalty-accrual.enabled=false")
+            .run()) {
+      String port = context.getEnvironment().getProperty("local.management.port");
+      HttpResponse<String> response =
+          httpClient.send(
+              HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                  .build(),
+              HttpResponse.BodyHandlers.ofString());
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+      assertThat(response.statusCode()).isEqualTo(200);
+      return elapsed;
+    }
+  }
+}
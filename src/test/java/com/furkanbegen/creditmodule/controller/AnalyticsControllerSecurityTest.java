@@ -0,0 +1,49 @@
+package com.furkanbegen.creditmodule.controller;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.furkanbegen.creditmodule.config.SecurityTestConfig;
+import com.furkanbegen.creditmodule.dto.PortfolioAnalyticsDTO;
+import com.furkanbegen.creditmodule.service.impl.PortfolioAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(AnalyticsController.class)
+@Import(SecurityTestConfig.class)
+class AnalyticsControllerSecurityTest {
+
+  private static final String PORTFOLIO_URL = "/api/v1/admin/analytics/portfolio";
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private PortfolioAnalyticsService portfolioAnalyticsService;
+
+  @Test
+  @WithMockUser(roles = "ADMIN")
+  void whenAdminAccess_thenSuccess() throws Exception {
+    // Given
+    when(portfolioAnalyticsService.getPortfolioAnalytics(false))
+        .thenReturn(PortfolioAnalyticsDTO.builder().build());
+
+    // When/Then
+    mockMvc.perform(get(PORTFOLIO_URL)).andExpect(status().isOk());
+  }
+
+  @Test
+  @WithMockUser(roles = "CUSTOMER")
+  void whenCustomerAccess_thenForbidden() throws Exception {
+    // When/Then
+    mockMvc.perform(get(PORTFOLIO_URL).param("fresh", "true")).andExpect(status().isForbidden());
+    verify(portfolioAnalyticsService, never()).getPortfolioAnalytics(anyBoolean());
+  }
+}
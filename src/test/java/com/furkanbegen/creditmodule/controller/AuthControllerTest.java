@@ -0,0 +1,60 @@
+package com.furkanbegen.creditmodule.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Runs on a real port so the login requests pass through Tomcat's forwarded header handling, with
+ * the test client as the trusted proxy on the loopback address.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "app.login-throttle.max-failures-per-ip=2",
+      "app.login-throttle.max-failures-per-email=100"
+    })
+class AuthControllerTest {
+
+  @LocalServerPort private int port;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @Test
+  void login_WhenForwardedAddressIsBlocked_ShouldThrottleOnlyThatAddress() throws Exception {
+    // Given
+    login("customer@test.com", "wrong", "203.0.113.7");
+    login("admin@test.com", "wrong", "203.0.113.7");
+
+    // When
+    int blocked = login("customer@test.com", "123456", "203.0.113.7");
+    int otherClient = login("customer@test.com", "123456", "203.0.113.8");
+
+    // Then
+    assertThat(blocked).isEqualTo(429);
+    assertThat(otherClient).isEqualTo(200);
+  }
+
+  private int login(String email, String password, String forwardedFor) throws Exception {
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/login"))
+            .header("Content-Type", "application/json")
+            .header("X-Forwarded-For", forwardedFor)
+            .POST(
+                HttpRequest.BodyPublishers.ofByteArray(
+                    objectMapper.writeValueAsBytes(Map.of("email", email, "password", password))))
+            .build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+}
@@ -0,0 +1,149 @@
+package com.furkanbegen.creditmodule.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.dto.LoanResponseDTO;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.UserRepository;
+import com.furkanbegen.creditmodule.service.impl.LoanService;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoanControllerContentNegotiationTest {
+
+  private static final String LOANS_URL = "/api/v1/customers/{customerId}/loans";
+
+  private static final String INSTALLMENTS_URL =
+      "/api/v1/customers/{customerId}/loans/{loanId}/installments";
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+  @Autowired private LoanService loanService;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  private Long userId;
+
+  private Long customerId;
+
+  private Long loanId;
+
+  @BeforeEach
+  void setUp() {
+    userId = userRepository.findByEmail("customer@test.com").orElseThrow().getId();
+    customerId = customerRepository.findByUserId(userId).orElseThrow().getId();
+
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(BigDecimal.valueOf(1200));
+    request.setInterestRate(BigDecimal.valueOf(0.1));
+    request.setNumberOfInstallment(InstallmentOption.SIX);
+    loanId = loanService.createLoan(customerId, request).getId();
+  }
+
+  @Test
+  void getLoans_WhenCborIsAccepted_ShouldReturnTheSameLoansAsJson() throws Exception {
+    // When
+    MvcResult json = perform(get(LOANS_URL, customerId).accept(MediaType.APPLICATION_JSON));
+    MvcResult cbor = perform(get(LOANS_URL, customerId).accept(MediaType.APPLICATION_CBOR));
+
+    // Then
+    assertThat(cbor.getResponse().getStatus()).isEqualTo(200);
+    assertThat(cbor.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+    List<LoanResponseDTO> jsonLoans =
+        objectMapper.readValue(
+            json.getResponse().getContentAsByteArray(), new TypeReference<>() {});
+    List<LoanResponseDTO> cborLoans =
+        cborHttpMessageConverter
+            .getObjectMapper()
+            .readValue(cbor.getResponse().getContentAsByteArray(), new TypeReference<>() {});
+    assertThat(cborLoans).isEqualTo(jsonLoans).extracting(LoanResponseDTO::getId).contains(loanId);
+  }
+
+  @Test
+  void getInstallments_ShouldTagJsonAndCborRepresentationsApart() throws Exception {
+    // When
+    MvcResult json = installments(MediaType.APPLICATION_JSON, null);
+    MvcResult cbor = installments(MediaType.APPLICATION_CBOR, null);
+
+    // Then
+    assertThat(json.getResponse().getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    assertThat(cbor.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+    assertThat(cbor.getResponse().getHeader(HttpHeaders.ETAG))
+        .isNotEqualTo(json.getResponse().getHeader(HttpHeaders.ETAG));
+    assertThat(json.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+    assertThat(cbor.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+  }
+
+  @Test
+  void getInstallments_ShouldOnlyRevalidateTheSameRepresentation() throws Exception {
+    // Given
+    String jsonETag =
+        installments(MediaType.APPLICATION_JSON, null).getResponse().getHeader(HttpHeaders.ETAG);
+    String cborETag =
+        installments(MediaType.APPLICATION_CBOR, null).getResponse().getHeader(HttpHeaders.ETAG);
+
+    // When
+    MvcResult cborWithJsonETag = installments(MediaType.APPLICATION_CBOR, jsonETag);
+
+    // Then
+    assertThat(cborWithJsonETag.getResponse().getStatus()).isEqualTo(200);
+    assertThat(cborWithJsonETag.getResponse().getContentAsByteArray()).isNotEmpty();
+    mockMvc
+        .perform(
+            authenticated(
+                get(INSTALLMENTS_URL, customerId, loanId)
+                    .accept(MediaType.APPLICATION_CBOR)
+                    .header(HttpHeaders.IF_NONE_MATCH, cborETag)))
+        .andExpect(status().isNotModified())
+        .andExpect(header().stringValues(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+  }
+
+  private MvcResult installments(MediaType accept, String ifNoneMatch) throws Exception {
+    MockHttpServletRequestBuilder request =
+        get(INSTALLMENTS_URL, customerId, loanId).accept(accept);
+    if (ifNoneMatch != null) {
+      request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+    }
+    return perform(request);
+  }
+
+  private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+    return mockMvc.perform(authenticated(request)).andReturn();
+  }
+
+  private RequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+    return request.with(
+        jwt()
+            .jwt(token -> token.claim("user_id", userId))
+            .authorities(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+  }
+}
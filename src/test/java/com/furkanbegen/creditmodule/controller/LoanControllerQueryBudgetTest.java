@@ -0,0 +1,218 @@
+package com.furkanbegen.creditmodule.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.dto.LoanPaymentRequest;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.model.Loan;
+import com.furkanbegen.creditmodule.monitoring.QueryBudgetFilter;
+import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.UserRepository;
+import com.furkanbegen.creditmodule.service.impl.LoanService;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Asserts how many SQL statements each {@link LoanController} endpoint may issue. The ownership
+ * check in {@code customerSecurity} accounts for one statement on every endpoint. Loans are created
+ * with six installments, and installment ids are generated by the database, so creating a loan
+ * costs one insert per installment.
+ */
+@SpringBootTest(
+    properties = {
+      "monitoring.query-budget.fail-on-exceed=true",
+      "monitoring.query-budget.endpoints"
+          + "[GET\\ /api/v1/customers/{customerId}/loans/{loanId}/ledger]=1"
+    })
+@AutoConfigureMockMvc
+class LoanControllerQueryBudgetTest {
+
+  private static final String BASE_URL = "/api/v1/customers/{customerId}/loans";
+
+  private static final String V2_BASE_URL = "/api/v2/customers/{customerId}/loans";
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private LoanService loanService;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  private Long userId;
+
+  private Long customerId;
+
+  private Long loanId;
+
+  @BeforeEach
+  void setUp() {
+    userId = userRepository.findByEmail("customer@test.com").orElseThrow().getId();
+    customerId = customerRepository.findByUserId(userId).orElseThrow().getId();
+    Loan loan = loanService.createLoan(customerId, loanRequest());
+    loanId = loan.getId();
+  }
+
+  @Test
+  void createLoan_ShouldStayWithinStatementBudget() throws Exception {
+    // When
+    int statements =
+        statementsFor(
+            post(BASE_URL, customerId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loanRequest())));
+
+    // Then - access check, customer lookup, loan insert, 6 installment inserts, customer update,
+    // ledger event and outbox inserts
+    assertThat(statements).isLessThanOrEqualTo(12);
+  }
+
+  @Test
+  void quoteLoan_ShouldStayWithinStatementBudget() throws Exception {
+    // When
+    int statements =
+        statementsFor(
+            post(BASE_URL + "/quote", customerId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loanRequest())));
+
+    // Then
+    assertThat(statements).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void getLoans_ShouldNotIssueStatementsPerLoan() throws Exception {
+    // Given
+    loanService.createLoan(customerId, loanRequest());
+
+    // When
+    int statements = statementsFor(get(BASE_URL, customerId));
+
+    // Then - access check, ETag version query, customer exists check, one row query for all
+    // loans and installments
+    assertThat(statements).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  void getInstallments_ShouldStayWithinStatementBudget() throws Exception {
+    // When
+    int statements = statementsFor(get(BASE_URL + "/{loanId}/installments", customerId, loanId));
+
+    // Then - access check, ETag version query, installment rows
+    assertThat(statements).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void getInstallmentsV2_ShouldStayWithinStatementBudget() throws Exception {
+    // When
+    int statements = statementsFor(get(V2_BASE_URL + "/{loanId}/installments", customerId, loanId));
+
+    // Then - same queries as v1, only the response shape differs
+    assertThat(statements).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void getInstallments_WhenNotModified_ShouldOnlyRunVersionQuery() throws Exception {
+    // Given
+    String eTag =
+        mockMvc
+            .perform(authenticated(get(BASE_URL + "/{loanId}/installments", customerId, loanId)))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    // When
+    MvcResult result =
+        mockMvc
+            .perform(
+                authenticated(
+                    get(BASE_URL + "/{loanId}/installments", customerId, loanId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)))
+            .andExpect(status().isNotModified())
+            .andReturn();
+
+    // Then - at most the access check and the ETag version query, the installments are not loaded
+    assertThat(eTag).isNotBlank();
+    Integer statements =
+        (Integer) result.getRequest().getAttribute(QueryBudgetFilter.STATEMENT_COUNT_ATTRIBUTE);
+    assertThat(statements).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void payLoan_ShouldStayWithinStatementBudget() throws Exception {
+    // Given
+    LoanPaymentRequest request = new LoanPaymentRequest();
+    request.setPaymentAmount(BigDecimal.valueOf(250));
+
+    // When
+    int statements =
+        statementsFor(
+            post(BASE_URL + "/{loanId}/pay", customerId, loanId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+    // Then - access check, loan with installments, one installment update, the loan version, the
+    // settled and discount ledger events and the outbox insert
+    assertThat(statements).isLessThanOrEqualTo(7);
+  }
+
+  @Test
+  void simulatePayoff_ShouldStayWithinStatementBudget() throws Exception {
+    // When
+    int statements = statementsFor(get(BASE_URL + "/{loanId}/payoff", customerId, loanId));
+
+    // Then
+    assertThat(statements).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void getLedger_WhenBudgetExceeded_ShouldFailBeforeWritingTheBody() throws Exception {
+    // When / Then - the access check uses up the budget of one, the ledger query is rejected
+    mockMvc
+        .perform(authenticated(get(BASE_URL + "/{loanId}/ledger", customerId, loanId)))
+        .andExpect(status().isInternalServerError())
+        .andExpect(jsonPath("$.messages[0]").value(containsString("budget is 1")));
+  }
+
+  private int statementsFor(MockHttpServletRequestBuilder request) throws Exception {
+    MvcResult result =
+        mockMvc.perform(authenticated(request)).andExpect(status().isOk()).andReturn();
+    return (Integer) result.getRequest().getAttribute(QueryBudgetFilter.STATEMENT_COUNT_ATTRIBUTE);
+  }
+
+  private RequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+    return request.with(
+        jwt()
+            .jwt(token -> token.claim("user_id", userId))
+            .authorities(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+  }
+
+  private CreateLoanRequest loanRequest() {
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(BigDecimal.valueOf(1200));
+    request.setInterestRate(BigDecimal.valueOf(0.1));
+    request.setNumberOfInstallment(InstallmentOption.SIX);
+    return request;
+  }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.furkanbegen.creditmodule.config.SecurityTestConfig;
 import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
 import com.furkanbegen.creditmodule.dto.LoanResponseDTO;
+import com.furkanbegen.creditmodule.mapper.InstallmentMapper;
 import com.furkanbegen.creditmodule.mapper.LoanMapper;
 import com.furkanbegen.creditmodule.model.Customer;
 import com.furkanbegen.creditmodule.model.InstallmentOption;
@@ -43,6 +44,8 @@ class LoanControllerSecurityTest {
 
   @MockitoBean private LoanMapper loanMapper;
 
+  @MockitoBean private InstallmentMapper installmentMapper;
+
   @Autowired private UserRepository userRepository;
 
   private static final String BASE_URL = "/api/v1/customers";
@@ -86,6 +89,7 @@ class LoanControllerSecurityTest {
     customer.setId(customerId);
 
     when(customerRepository.findByUserId(1L)).thenReturn(Optional.of(customer));
+    when(loanService.getLoansETag(eq(customerId), any())).thenReturn("0-0-0-0");
     when(loanService.getLoans(eq(customerId), any())).thenReturn(Collections.emptyList());
 
     // When/Then
@@ -0,0 +1,277 @@
+package com.furkanbegen.creditmodule.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furkanbegen.creditmodule.dto.AuthRequestDTO;
+import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.dto.LoanPaymentRequest;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.service.SyntheticDataProperties;
+import com.furkanbegen.creditmodule.service.impl.SyntheticDataSeeder;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Drives login, create-loan, list and pay against the application on a random port, at fixed
+ * arrival rates so slow responses do not hold back new requests. Run it with {@code mvn test
+ * -Pload-test}; rates, duration and customer count are system properties, for example {@code
+ * -Dload.duration=PT2M -Dload.rate.create=50}. Customers and their existing loans come from {@link
+ * SyntheticDataSeeder}. The report is logged and written to {@code target/load-reports} so runs of
+ * different releases can be compared.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "spring.jpa.show-sql=false",
+      "monitoring.query-budget.fail-on-exceed=false",
+      "loan.penalty-accrual.enabled=false",
+      "app.rate-limit.enabled=false"
+    })
+class LoanLoadTest {
+
+  private static final int CUSTOMERS = Integer.getInteger("load.customers", 500);
+  private static final int LOANS_PER_CUSTOMER = Integer.getInteger("load.loans-per-customer", 3);
+  private static final Duration DURATION =
+      Duration.parse(System.getProperty("load.duration", "PT30S"));
+  private static final int LOGIN_RATE = Integer.getInteger("load.rate.login", 5);
+  private static final int CREATE_RATE = Integer.getInteger("load.rate.create", 20);
+  private static final int LIST_RATE = Integer.getInteger("load.rate.list", 50);
+  private static final int PAY_RATE = Integer.getInteger("load.rate.pay", 10);
+  private static final double MAX_ERROR_RATE =
+      Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+  private static final Path REPORT_DIR =
+      Path.of(System.getProperty("load.report-dir", "target/load-reports"));
+
+  @LocalServerPort private int port;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private SyntheticDataSeeder syntheticDataSeeder;
+
+  @Autowired private SyntheticDataProperties syntheticDataProperties;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+  private final Map<Long, String> tokens = new ConcurrentHashMap<>();
+
+  private final Map<Long, Queue<Long>> loans = new ConcurrentHashMap<>();
+
+  private List<SeededCustomer> customers;
+
+  @Test
+  void loanScenarios_ShouldSustainConfiguredRates() throws Exception {
+    // Given
+    syntheticDataSeeder.seed("load", CUSTOMERS, LOANS_PER_CUSTOMER);
+    customers =
+        jdbcTemplate.query(
+            "SELECT c.id, u.email FROM customers c JOIN users u ON u.id = c.user_id"
+                + " WHERE u.email LIKE 'load-%'",
+            (row, rowNum) -> new SeededCustomer(row.getLong(1), row.getString(2)));
+    logInAll();
+
+    // When
+    List<LatencyRecorder> recorders = new ArrayList<>();
+    ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    long start = System.nanoTime();
+    schedule(scheduler, workers, recorders, "login", LOGIN_RATE, this::login);
+    schedule(scheduler, workers, recorders, "create-loan", CREATE_RATE, this::createLoan);
+    schedule(scheduler, workers, recorders, "list-loans", LIST_RATE, this::listLoans);
+    schedule(scheduler, workers, recorders, "pay-loan", PAY_RATE, this::payLoan);
+
+    Thread.sleep(DURATION.toMillis());
+    scheduler.shutdownNow();
+    workers.shutdown();
+    workers.awaitTermination(1, TimeUnit.MINUTES);
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    // Then
+    List<LatencyRecorder.Summary> summaries =
+        recorders.stream().map(recorder -> recorder.summarize(elapsed)).toList();
+    report(summaries, elapsed);
+
+    int requests = summaries.stream().mapToInt(LatencyRecorder.Summary::requests).sum();
+    int errors = summaries.stream().mapToInt(LatencyRecorder.Summary::errors).sum();
+    assertThat(requests).isPositive();
+    assertThat((double) errors / requests).isLessThanOrEqualTo(MAX_ERROR_RATE);
+  }
+
+  private void schedule(
+      ScheduledExecutorService scheduler,
+      ExecutorService workers,
+      List<LatencyRecorder> recorders,
+      String scenario,
+      int ratePerSecond,
+      Scenario action) {
+    if (ratePerSecond <= 0) {
+      return;
+    }
+
+    LatencyRecorder recorder = new LatencyRecorder(scenario);
+    recorders.add(recorder);
+    scheduler.scheduleAtFixedRate(
+        () ->
+            workers.execute(
+                () -> {
+                  SeededCustomer customer =
+                      customers.get(ThreadLocalRandom.current().nextInt(customers.size()));
+                  long start = System.nanoTime();
+                  boolean success;
+                  try {
+                    success = action.run(customer);
+                  } catch (IOException | InterruptedException e) {
+                    success = false;
+                  }
+                  recorder.record(System.nanoTime() - start, success);
+                }),
+        0,
+        TimeUnit.SECONDS.toNanos(1) / ratePerSecond,
+        TimeUnit.NANOSECONDS);
+  }
+
+  private void logInAll() throws InterruptedException {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (SeededCustomer customer : customers) {
+        executor.execute(
+            () -> {
+              try {
+                login(customer);
+              } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException("Login failed for " + customer.email(), e);
+              }
+            });
+      }
+    }
+  }
+
+  private boolean login(SeededCustomer customer) throws IOException, InterruptedException {
+    HttpResponse<String> response =
+        send(
+            "POST",
+            "/api/v1/login",
+            null,
+            new AuthRequestDTO(customer.email(), syntheticDataProperties.getPassword()));
+    if (response.statusCode() != 200) {
+      return false;
+    }
+    tokens.put(customer.id(), objectMapper.readTree(response.body()).get("accessToken").asText());
+    return true;
+  }
+
+  private boolean createLoan(SeededCustomer customer) throws IOException, InterruptedException {
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(BigDecimal.valueOf(1200));
+    request.setInterestRate(BigDecimal.valueOf(0.1));
+    request.setNumberOfInstallment(InstallmentOption.SIX);
+
+    HttpResponse<String> response = send("POST", loansPath(customer), customer, request);
+    if (response.statusCode() != 200) {
+      return false;
+    }
+    loans
+        .computeIfAbsent(customer.id(), id -> new ConcurrentLinkedQueue<>())
+        .add(objectMapper.readTree(response.body()).get("id").asLong());
+    return true;
+  }
+
+  private boolean listLoans(SeededCustomer customer) throws IOException, InterruptedException {
+    return send("GET", loansPath(customer), customer, null).statusCode() == 200;
+  }
+
+  private boolean payLoan(SeededCustomer customer) throws IOException, InterruptedException {
+    Queue<Long> customerLoans = loans.get(customer.id());
+    Long loanId = customerLoans != null ? customerLoans.poll() : null;
+    if (loanId == null) {
+      // Nothing to pay yet for this customer, measure a list instead of skipping the arrival
+      return listLoans(customer);
+    }
+
+    // Pays every installment inside the payable window, so each loan is paid only once
+    LoanPaymentRequest request = new LoanPaymentRequest();
+    request.setPaymentAmount(BigDecimal.valueOf(1320));
+    return send("POST", loansPath(customer) + "/" + loanId + "/pay", customer, request).statusCode()
+        == 200;
+  }
+
+  private HttpResponse<String> send(
+      String method, String path, SeededCustomer customer, Object body)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .method(
+                method,
+                body != null
+                    ? HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))
+                    : HttpRequest.BodyPublishers.noBody());
+    if (customer != null) {
+      request.header("Authorization", "Bearer " + tokens.get(customer.id()));
+    }
+    return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private static String loansPath(SeededCustomer customer) {
+    return "/api/v1/customers/" + customer.id() + "/loans";
+  }
+
+  private void report(List<LatencyRecorder.Summary> summaries, Duration elapsed)
+      throws IOException {
+    StringBuilder report = new StringBuilder();
+    report
+        .append(
+            String.format(
+                "Load test: %d customers, %d s, rates login=%d create=%d list=%d pay=%d req/s%n",
+                CUSTOMERS, elapsed.toSeconds(), LOGIN_RATE, CREATE_RATE, LIST_RATE, PAY_RATE))
+        .append(LatencyRecorder.Summary.HEADER)
+        .append(System.lineSeparator());
+    for (LatencyRecorder.Summary summary : summaries) {
+      report.append(summary.format()).append(System.lineSeparator());
+    }
+    log.info("{}{}", System.lineSeparator(), report);
+
+    Files.createDirectories(REPORT_DIR);
+    String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    Files.writeString(REPORT_DIR.resolve("load-report-" + timestamp + ".txt"), report);
+  }
+
+  private record SeededCustomer(Long id, String email) {}
+
+  @FunctionalInterface
+  private interface Scenario {
+    boolean run(SeededCustomer customer) throws IOException, InterruptedException;
+  }
+}
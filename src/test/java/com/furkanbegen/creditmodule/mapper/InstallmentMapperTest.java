@@ -0,0 +1,80 @@
+package com.furkanbegen.creditmodule.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.benchmark.Microbenchmark;
+import com.furkanbegen.creditmodule.dto.LoanInstallmentDTO;
+import com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/** Maps 24 installment rows, three of them paid, into the v1 set and the v2 ordered list. */
+@Slf4j
+class InstallmentMapperTest {
+
+  private static final int ITERATIONS = 20_000;
+
+  private final InstallmentMapper installmentMapper = new InstallmentMapper();
+
+  @Test
+  void toDTOList_ShouldKeepDueDateOrder() {
+    // Given
+    List<LoanInstallmentRow> rows = rows(24);
+
+    // When
+    List<LoanInstallmentDTO> list = installmentMapper.toDTOList(rows);
+
+    // Then
+    assertThat(list)
+        .hasSize(24)
+        .isSortedAccordingTo(Comparator.comparing(LoanInstallmentDTO::getDueDate));
+    assertThat(list).containsExactlyInAnyOrderElementsOf(installmentMapper.toDTOSet(rows));
+  }
+
+  @Test
+  @Tag("benchmark")
+  void toDTOList_MappingTime() throws Exception {
+    // Given
+    List<LoanInstallmentRow> rows = rows(24);
+
+    // When - the list skips hashing every DTO into the set
+    long setNanos =
+        Microbenchmark.nanosPerOperation(ITERATIONS, () -> installmentMapper.toDTOSet(rows));
+    long listNanos =
+        Microbenchmark.nanosPerOperation(ITERATIONS, () -> installmentMapper.toDTOList(rows));
+
+    // Then
+    log.info(
+        "Mapping {} installments: set {} ns/op, list {} ns/op", rows.size(), setNanos, listNanos);
+  }
+
+  private static List<LoanInstallmentRow> rows(int installments) {
+    LocalDateTime createDate = LocalDateTime.of(2025, 1, 15, 10, 30);
+    List<LoanInstallmentRow> rows = new ArrayList<>(installments);
+    for (int i = 1; i <= installments; i++) {
+      boolean paid = i <= 3;
+      rows.add(
+          new LoanInstallmentRow(
+              1L,
+              1L,
+              new BigDecimal("26400.00"),
+              installments,
+              createDate,
+              (long) i,
+              new BigDecimal("1100.00"),
+              paid ? new BigDecimal("1098.90") : BigDecimal.ZERO,
+              createDate.toLocalDate().plusMonths(i).withDayOfMonth(1).atStartOfDay(),
+              paid ? createDate.plusMonths(i) : null,
+              paid,
+              BigDecimal.ZERO,
+              0));
+    }
+    return rows;
+  }
+}
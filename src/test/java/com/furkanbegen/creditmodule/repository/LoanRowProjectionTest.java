@@ -0,0 +1,172 @@
+package com.furkanbegen.creditmodule.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.dto.LoanResponseDTO;
+import com.furkanbegen.creditmodule.mapper.LoanMapper;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.model.Loan;
+import com.furkanbegen.creditmodule.model.LoanInstallment;
+import com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Runs in a transaction that is rolled back, so the loans never reach the shared database. */
+@SpringBootTest
+@Transactional
+class LoanRowProjectionTest {
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Autowired private EntityManager entityManager;
+
+  @Autowired private LoanRepository loanRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private LoanMapper loanMapper;
+
+  private Long customerId;
+
+  private Long loanId;
+
+  @BeforeEach
+  void setUp() {
+    Long userId = userRepository.findByEmail("customer@test.com").orElseThrow().getId();
+    customerId = customerRepository.findByUserId(userId).orElseThrow().getId();
+    loanId = createLoan(InstallmentOption.SIX);
+  }
+
+  @Test
+  void findLoanRowsWithFilters_ShouldGroupIntoDTOsWithoutLoadingEntities() {
+    // Given - written and detached first, so the query neither flushes nor finds managed loans
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // When
+    List<LoanInstallmentRow> rows =
+        loanRepository.findLoanRowsWithFilters(customerId, null, null, null, LocalDateTime.now());
+    List<LoanResponseDTO> loans = loanMapper.toDTOs(rows);
+
+    // Then - one statement, and nothing was hydrated into the persistence context
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+    assertThat(loans).extracting(LoanResponseDTO::getId).doesNotHaveDuplicates().contains(loanId);
+    LoanResponseDTO loan =
+        loans.stream().filter(dto -> dto.getId().equals(loanId)).findFirst().orElseThrow();
+    assertThat(loan.getCustomerId()).isEqualTo(customerId);
+    assertThat(loan.getInstallments()).hasSize(6);
+  }
+
+  @Test
+  void findLoanRowsWithFilters_WhenFilteringByPaidStatus_ShouldReturnOnlyMatchingLoans() {
+    // Given
+    Long paidLoanId = createLoan(InstallmentOption.SIX);
+    markPaid(paidLoanId);
+
+    // When / Then
+    assertThat(loanIds(true, null, null, LocalDateTime.now()))
+        .contains(paidLoanId)
+        .doesNotContain(loanId);
+    assertThat(loanIds(false, null, null, LocalDateTime.now()))
+        .contains(loanId)
+        .doesNotContain(paidLoanId);
+  }
+
+  @Test
+  void findLoanRowsWithFilters_WhenFilteringByNumberOfInstallment_ShouldReturnOnlyMatchingLoans() {
+    // Given
+    Long twelveInstallmentLoanId = createLoan(InstallmentOption.TWELVE);
+
+    // When
+    List<LoanInstallmentRow> rows =
+        loanRepository.findLoanRowsWithFilters(customerId, null, 12, null, LocalDateTime.now());
+
+    // Then
+    assertThat(rows).isNotEmpty().allMatch(row -> row.numberOfInstallment() == 12);
+    assertThat(rows)
+        .extracting(LoanInstallmentRow::loanId)
+        .contains(twelveInstallmentLoanId)
+        .doesNotContain(loanId);
+  }
+
+  @Test
+  void
+      findLoanRowsWithFilters_WhenFilteringOverdue_ShouldReturnLoansWithUnpaidPastDueInstallments() {
+    // Given - the first installment falls due within two months, the paid loan owes nothing
+    Long paidLoanId = createLoan(InstallmentOption.SIX);
+    markPaid(paidLoanId);
+    LocalDateTime now = LocalDateTime.now();
+
+    // When / Then
+    assertThat(loanIds(null, null, true, now.plusMonths(2)))
+        .contains(loanId)
+        .doesNotContain(paidLoanId);
+    assertThat(loanIds(null, null, true, now)).doesNotContain(loanId, paidLoanId);
+  }
+
+  /**
+   * Saves the loan directly instead of through {@code LoanService}, which would also update the
+   * customer. A rolled back update leaves a soft lock on the customer's second-level cache entry
+   * that other tests in this context would trip over.
+   */
+  private Long createLoan(InstallmentOption numberOfInstallment) {
+    LocalDateTime now = LocalDateTime.now();
+    Loan loan = new Loan();
+    loan.setCustomer(customerRepository.getReferenceById(customerId));
+    loan.setLoanAmount(BigDecimal.valueOf(1320));
+    loan.setInterestRate(BigDecimal.valueOf(0.1));
+    loan.setNumberOfInstallment(numberOfInstallment.getValue());
+    loan.setCreateDate(now);
+    loan.setIsPaid(false);
+    Set<LoanInstallment> installments = new HashSet<>();
+    for (int n = 1; n <= numberOfInstallment.getValue(); n++) {
+      LoanInstallment installment = new LoanInstallment();
+      installment.setLoan(loan);
+      installment.setAmount(BigDecimal.valueOf(1320 / numberOfInstallment.getValue()));
+      installment.setPaidAmount(BigDecimal.ZERO);
+      installment.setDueDate(now.toLocalDate().withDayOfMonth(1).plusMonths(n).atStartOfDay());
+      installment.setIsPaid(false);
+      installments.add(installment);
+    }
+    loan.setInstallments(installments);
+    return loanRepository.save(loan).getId();
+  }
+
+  private void markPaid(Long id) {
+    Loan loan = entityManager.find(Loan.class, id);
+    loan.setIsPaid(true);
+    for (LoanInstallment installment : loan.getInstallments()) {
+      installment.setIsPaid(true);
+      installment.setPaidAmount(installment.getAmount());
+      installment.setPaymentDate(LocalDateTime.now());
+    }
+    entityManager.flush();
+  }
+
+  private List<Long> loanIds(
+      Boolean isPaid, Integer numberOfInstallment, Boolean isOverdue, LocalDateTime currentDate) {
+    return loanRepository
+        .findLoanRowsWithFilters(customerId, isPaid, numberOfInstallment, isOverdue, currentDate)
+        .stream()
+        .map(LoanInstallmentRow::loanId)
+        .distinct()
+        .toList();
+  }
+}
@@ -0,0 +1,142 @@
+package com.furkanbegen.creditmodule.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.dto.LoanPaymentRequest;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.model.Loan;
+import com.furkanbegen.creditmodule.model.LoanInstallment;
+import com.furkanbegen.creditmodule.repository.projection.CreditUtilizationSummary;
+import com.furkanbegen.creditmodule.repository.projection.InstallmentOptionSummary;
+import com.furkanbegen.creditmodule.repository.projection.InstallmentStatusSummary;
+import com.furkanbegen.creditmodule.service.impl.LoanService;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Checks the GROUP BY aggregates behind {@code PortfolioAnalyticsService} on a database of their
+ * own, holding only the two customers seeded on startup and the loans created here. The
+ * second-level cache is shared by every context in the JVM, so it is off.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:analyticstest",
+      "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+      "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+      "loan.penalty-accrual.enabled=false"
+    })
+class PortfolioAnalyticsQueryTest {
+
+  @Autowired private LoanRepository loanRepository;
+
+  @Autowired private LoanInstallmentRepository loanInstallmentRepository;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private LoanService loanService;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private Loan sixMonthLoan;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM loan_installments");
+    jdbcTemplate.update("DELETE FROM loan_events");
+    jdbcTemplate.update("DELETE FROM loan_snapshots");
+    jdbcTemplate.update("DELETE FROM outbox_events");
+    jdbcTemplate.update("DELETE FROM loans");
+    jdbcTemplate.update("UPDATE customers SET used_credit_limit = 0");
+
+    Long userId = userRepository.findByEmail("customer@test.com").orElseThrow().getId();
+    Long customerId = customerRepository.findByUserId(userId).orElseThrow().getId();
+
+    // 1320 in 6 x 220, the first one paid
+    sixMonthLoan =
+        loanService.createLoan(customerId, loanRequest(1200, 0.1, InstallmentOption.SIX));
+    LoanPaymentRequest payment = new LoanPaymentRequest();
+    payment.setPaymentAmount(BigDecimal.valueOf(250));
+    loanService.payLoan(customerId, sixMonthLoan.getId(), payment);
+
+    // 660 in 6 x 110, settled in full. Only three months can be paid ahead, so it is marked here
+    Long paidLoanId =
+        loanService.createLoan(customerId, loanRequest(600, 0.1, InstallmentOption.SIX)).getId();
+    jdbcTemplate.update("UPDATE loans SET is_paid = true WHERE id = ?", paidLoanId);
+    jdbcTemplate.update(
+        "UPDATE loan_installments SET is_paid = true, paid_amount = amount WHERE loan_id = ?",
+        paidLoanId);
+
+    // 1440 in 12 x 120
+    loanService.createLoan(customerId, loanRequest(1200, 0.2, InstallmentOption.TWELVE));
+  }
+
+  @Test
+  void summarizeByNumberOfInstallment_ShouldGroupLoansByInstallmentOption() {
+    // When
+    List<InstallmentOptionSummary> summaries = loanRepository.summarizeByNumberOfInstallment();
+
+    // Then
+    assertThat(summaries)
+        .extracting(
+            InstallmentOptionSummary::getNumberOfInstallment,
+            InstallmentOptionSummary::getLoanCount,
+            InstallmentOptionSummary::getPaidLoanCount)
+        .containsExactly(tuple(6, 2L, 1L), tuple(12, 1L, 0L));
+    assertThat(summaries.get(0).getTotalAmount()).isEqualByComparingTo("1980");
+    assertThat(summaries.get(1).getTotalAmount()).isEqualByComparingTo("1440");
+  }
+
+  @Test
+  void summarizeInstallmentStatus_ShouldCountPaidOutstandingAndOverdueInstallments() {
+    // Given - just after the second due date, so two installments of each open loan are due
+    LocalDateTime secondDueDate =
+        loanInstallmentRepository.findAll().stream()
+            .filter(installment -> installment.getLoan().getId().equals(sixMonthLoan.getId()))
+            .map(LoanInstallment::getDueDate)
+            .sorted()
+            .skip(1)
+            .findFirst()
+            .orElseThrow();
+
+    // When
+    InstallmentStatusSummary summary =
+        loanInstallmentRepository.summarizeInstallmentStatus(secondDueDate.plusDays(1));
+
+    // Then - the six month loan's second installment and the twelve month loan's first two
+    assertThat(summary.getTotalCount()).isEqualTo(24);
+    assertThat(summary.getPaidCount()).isEqualTo(7);
+    assertThat(summary.getOverdueCount()).isEqualTo(3);
+    assertThat(summary.getOutstandingAmount()).isEqualByComparingTo("2540");
+    assertThat(summary.getOverdueAmount()).isEqualByComparingTo("460");
+  }
+
+  @Test
+  void summarizeCreditUtilization_ShouldTotalLimitsOverAllCustomers() {
+    // When
+    CreditUtilizationSummary summary = customerRepository.summarizeCreditUtilization();
+
+    // Then - both seeded customers, the used limit only grows with the loans created here
+    assertThat(summary.getCustomerCount()).isEqualTo(2);
+    assertThat(summary.getTotalCreditLimit()).isEqualByComparingTo("200000");
+    assertThat(summary.getTotalUsedCreditLimit()).isEqualByComparingTo("3420");
+  }
+
+  private static CreateLoanRequest loanRequest(
+      int loanAmount, double interestRate, InstallmentOption numberOfInstallment) {
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(BigDecimal.valueOf(loanAmount));
+    request.setInterestRate(BigDecimal.valueOf(interestRate));
+    request.setNumberOfInstallment(numberOfInstallment);
+    return request;
+  }
+}
@@ -0,0 +1,60 @@
+package com.furkanbegen.creditmodule.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.model.Customer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Autowired private RoleRepository roleRepository;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void findByName_WhenCalledTwice_ShouldServeSecondCallFromQueryCache() {
+    // Given
+    roleRepository.findByName("ROLE_CUSTOMER").orElseThrow();
+    statistics.clear();
+
+    // When
+    roleRepository.findByName("ROLE_CUSTOMER").orElseThrow();
+
+    // Then - the query cache may hold the role itself, so the roles region is not always read
+    assertThat(statistics.getQueryCacheHitCount()).isPositive();
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  void findById_WhenCustomerReadInSeparateTransactions_ShouldHitCustomerRegion() {
+    // Given
+    Long customerId = customerRepository.findAll().get(0).getId();
+    statistics.clear();
+
+    // When
+    Customer first = customerRepository.findById(customerId).orElseThrow();
+    Customer second = customerRepository.findById(customerId).orElseThrow();
+
+    // Then
+    assertThat(second.getVersion()).isEqualTo(first.getVersion());
+    assertThat(statistics.getDomainDataRegionStatistics("customers").getHitCount()).isEqualTo(2);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+}
@@ -0,0 +1,72 @@
+package com.furkanbegen.creditmodule.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.furkanbegen.creditmodule.monitoring.CreditMetrics;
+import com.furkanbegen.creditmodule.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+@ExtendWith(MockitoExtension.class)
+class CustomJwtAuthenticationConverterTest {
+
+  @Mock private UserRepository userRepository;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private CustomJwtAuthenticationConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    converter = new CustomJwtAuthenticationConverter(userRepository, new CreditMetrics(registry));
+  }
+
+  @Test
+  void convert_WhenUserIsUnknown_ShouldRecordNotFound() {
+    // Given
+    when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+    // When
+    converter.convert(jwt());
+
+    // Then
+    assertThat(count(CreditMetrics.OUTCOME_NOT_FOUND)).isEqualTo(1);
+  }
+
+  @Test
+  void convert_WhenLookupFails_ShouldStillRecordTheTimer() {
+    // Given
+    when(userRepository.findById(1L))
+        .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+    // When / Then
+    assertThatThrownBy(() -> converter.convert(jwt()))
+        .isInstanceOf(DataAccessResourceFailureException.class);
+    assertThat(count(CreditMetrics.OUTCOME_ERROR)).isEqualTo(1);
+  }
+
+  private long count(String outcome) {
+    return registry
+        .get("credit.operation")
+        .tags("operation", CreditMetrics.JWT_CONVERT, "outcome", outcome)
+        .timer()
+        .count();
+  }
+
+  private static Jwt jwt() {
+    return Jwt.withTokenValue("token")
+        .header("alg", "HS512")
+        .subject("customer@test.com")
+        .claim("user_id", 1L)
+        .build();
+  }
+}
@@ -0,0 +1,142 @@
+package com.furkanbegen.creditmodule.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.furkanbegen.creditmodule.exception.RateLimitExceededException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoginAttemptTrackerTest {
+
+  private static final String EMAIL = "customer@test.com";
+  private static final String IP = "10.0.0.1";
+
+  private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+  private LoginAttemptTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    LoginThrottleProperties properties = new LoginThrottleProperties();
+    properties.setMaxFailuresPerEmail(3);
+    properties.setMaxFailuresPerIp(5);
+    properties.setWindow(Duration.ofMinutes(10));
+    tracker = new LoginAttemptTracker(properties, clock::get);
+  }
+
+  @Test
+  void checkAllowed_WhenEmailFailuresReachLimit_ShouldRejectUntilOldestFailureExpires() {
+    // Given - three failed attempts, a minute apart
+    for (int i = 0; i < 3; i++) {
+      tracker.checkAllowed(EMAIL, IP);
+      clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+    }
+
+    // When / Then - the first failure leaves the window 10 minutes after it was recorded
+    assertThatThrownBy(() -> tracker.checkAllowed(" Customer@Test.com", "10.0.0.2"))
+        .isInstanceOfSatisfying(
+            RateLimitExceededException.class,
+            e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(TimeUnit.MINUTES.toSeconds(7)));
+    clock.addAndGet(TimeUnit.MINUTES.toNanos(7));
+    assertThatCode(() -> tracker.checkAllowed(EMAIL, "10.0.0.2")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void checkAllowed_WhenIpFailuresReachLimit_ShouldRejectOtherEmailsFromSameIp() {
+    // Given
+    for (int i = 0; i < 5; i++) {
+      tracker.checkAllowed("user" + i + "@test.com", IP);
+    }
+
+    // When / Then
+    assertThatThrownBy(() -> tracker.checkAllowed(EMAIL, IP))
+        .isInstanceOf(RateLimitExceededException.class);
+    assertThatCode(() -> tracker.checkAllowed(EMAIL, "10.0.0.2")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void checkAllowed_WhenIpIsBlocked_ShouldNotCountAttemptAgainstEmail() {
+    // Given
+    for (int i = 0; i < 5; i++) {
+      tracker.checkAllowed("user" + i + "@test.com", IP);
+    }
+
+    // When
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> tracker.checkAllowed(EMAIL, IP))
+          .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    // Then
+    assertThatCode(() -> tracker.checkAllowed(EMAIL, "10.0.0.2")).doesNotThrowAnyException();
+  }
+
+  @Test
+  void checkAllowed_WhenAttemptsRace_ShouldLetOnlyLimitThrough() throws Exception {
+    // Given
+    int threads = 16;
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger allowed = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    // When
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        String clientIp = "10.0.1." + i;
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  try {
+                    tracker.checkAllowed(EMAIL, clientIp);
+                    allowed.incrementAndGet();
+                  } catch (RateLimitExceededException e) {
+                    // Blocked
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // Then
+    assertThat(allowed).hasValue(3);
+  }
+
+  @Test
+  void recordSuccess_ShouldResetEmailAttemptsAndTakeBackIpAttempt() {
+    // Given
+    tracker.checkAllowed(EMAIL, IP);
+    tracker.checkAllowed(EMAIL, IP);
+    long attemptTime = tracker.checkAllowed(EMAIL, IP);
+
+    // When
+    tracker.recordSuccess(EMAIL, IP, attemptTime);
+    for (int i = 0; i < 2; i++) {
+      tracker.checkAllowed("user" + i + "@test.com", IP);
+    }
+
+    // Then - the email starts over and the address holds four attempts, not five
+    assertThatCode(() -> tracker.checkAllowed(EMAIL, IP)).doesNotThrowAnyException();
+    assertThatThrownBy(() -> tracker.checkAllowed("other@test.com", IP))
+        .isInstanceOf(RateLimitExceededException.class);
+  }
+}
@@ -0,0 +1,152 @@
+package com.furkanbegen.creditmodule.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+@SpringBootTest(
+    properties = {
+      "app.rate-limit.endpoints.quoteLoan.capacity=2",
+      "app.rate-limit.endpoints.quoteLoan.period=PT1H",
+      "app.rate-limit.endpoints.getLoans.capacity=2",
+      "app.rate-limit.endpoints.getLoans.period=PT1H"
+    })
+@AutoConfigureMockMvc
+class RateLimitInterceptorTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Test
+  void preHandle_WhenEndpointLimitExceeded_ShouldReturnTooManyRequestsWithRetryAfter()
+      throws Exception {
+    // Given
+    Long userId = userRepository.findByEmail("customer@test.com").orElseThrow().getId();
+    Long customerId = customerRepository.findByUserId(userId).orElseThrow().getId();
+    mockMvc.perform(quote(userId, customerId)).andExpect(status().isOk());
+    mockMvc.perform(quote(userId, customerId)).andExpect(status().isOk());
+
+    // When / Then - the third request within the hour is rejected before the ownership check
+    mockMvc
+        .perform(quote(userId, customerId))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    assertThat(
+            meterRegistry
+                .get(RateLimitInterceptor.REJECTED_METRIC)
+                .tag("endpoint", "quoteLoan")
+                .tag("scope", "user")
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void preHandle_ShouldChargeCustomerBucketOnlyForCallersWithAccess() throws Exception {
+    // Given
+    Long customerUserId = userRepository.findByEmail("customer@test.com").orElseThrow().getId();
+    Long anotherUserId = userRepository.findByEmail("anotherUser@test.com").orElseThrow().getId();
+    Long adminUserId = userRepository.findByEmail("admin@test.com").orElseThrow().getId();
+    Long customerId = customerRepository.findByUserId(customerUserId).orElseThrow().getId();
+    Long anotherCustomerId = customerRepository.findByUserId(anotherUserId).orElseThrow().getId();
+
+    // When / Then - another user's forbidden requests leave the customer's tokens alone
+    mockMvc
+        .perform(getLoans(anotherUserId, "ROLE_CUSTOMER", customerId))
+        .andExpect(status().isForbidden());
+    mockMvc
+        .perform(getLoans(anotherUserId, "ROLE_CUSTOMER", customerId))
+        .andExpect(status().isForbidden());
+    mockMvc
+        .perform(getLoans(customerUserId, "ROLE_CUSTOMER", customerId))
+        .andExpect(status().isOk());
+    mockMvc
+        .perform(getLoans(customerUserId, "ROLE_CUSTOMER", customerId))
+        .andExpect(status().isOk());
+
+    // When / Then - the customer's bucket is empty now, and rejecting the admin there gives the
+    // admin's user token back
+    mockMvc
+        .perform(getLoans(adminUserId, "ROLE_ADMIN", customerId))
+        .andExpect(status().isTooManyRequests());
+    mockMvc
+        .perform(getLoans(adminUserId, "ROLE_ADMIN", anotherCustomerId))
+        .andExpect(status().isOk());
+    mockMvc
+        .perform(getLoans(adminUserId, "ROLE_ADMIN", anotherCustomerId))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void preHandle_ShouldShareOwnershipCheckWithPreAuthorize() throws Exception {
+    // Given - another user, so the quote buckets of the other tests stay untouched
+    Long userId = userRepository.findByEmail("anotherUser@test.com").orElseThrow().getId();
+    Long customerId = customerRepository.findByUserId(userId).orElseThrow().getId();
+    double checksBefore = accessChecks();
+
+    // When
+    mockMvc.perform(quote(userId, customerId)).andExpect(status().isOk());
+
+    // Then - the rate limiter's check is reused, not repeated
+    assertThat(accessChecks() - checksBefore).isEqualTo(1);
+  }
+
+  private double accessChecks() {
+    return meterRegistry
+        .find("credit.operation")
+        .tag("operation", "customer.access")
+        .timers()
+        .stream()
+        .mapToDouble(timer -> timer.count())
+        .sum();
+  }
+
+  private RequestBuilder getLoans(Long userId, String role, Long customerId) {
+    return get("/api/v1/customers/{customerId}/loans", customerId)
+        .with(
+            jwt()
+                .jwt(token -> token.claim("user_id", userId))
+                .authorities(new SimpleGrantedAuthority(role)));
+  }
+
+  private RequestBuilder quote(Long userId, Long customerId) throws Exception {
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(BigDecimal.valueOf(1200));
+    request.setInterestRate(BigDecimal.valueOf(0.1));
+    request.setNumberOfInstallment(InstallmentOption.SIX);
+    return post("/api/v1/customers/{customerId}/loans/quote", customerId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(request))
+        .with(
+            jwt()
+                .jwt(token -> token.claim("user_id", userId))
+                .authorities(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+  }
+}
@@ -0,0 +1,96 @@
+package com.furkanbegen.creditmodule.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+  private static final RateLimitProperties.Limit LIMIT =
+      new RateLimitProperties.Limit(3, Duration.ofSeconds(3));
+
+  private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+  private RateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    rateLimiter = new RateLimiter(100, Duration.ofMinutes(1), clock::get);
+  }
+
+  @Test
+  void tryAcquire_WhenBurstExhausted_ShouldReturnTimeUntilNextToken() {
+    // Given
+    RateLimiter.Key key = new RateLimiter.Key("POST /loans", "customer", "1");
+
+    // When
+    long first = rateLimiter.tryAcquire(key, LIMIT);
+    long second = rateLimiter.tryAcquire(key, LIMIT);
+    long third = rateLimiter.tryAcquire(key, LIMIT);
+    long rejected = rateLimiter.tryAcquire(key, LIMIT);
+
+    // Then
+    assertThat(first).isZero();
+    assertThat(second).isZero();
+    assertThat(third).isZero();
+    assertThat(rejected).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void release_ShouldGiveBackOneToken() {
+    // Given
+    RateLimiter.Key key = new RateLimiter.Key("POST /loans", "user", "1");
+    for (int i = 0; i < LIMIT.getCapacity(); i++) {
+      rateLimiter.tryAcquire(key, LIMIT);
+    }
+
+    // When
+    rateLimiter.release(key, LIMIT);
+    long released = rateLimiter.tryAcquire(key, LIMIT);
+    long rejected = rateLimiter.tryAcquire(key, LIMIT);
+
+    // Then
+    assertThat(released).isZero();
+    assertThat(rejected).isPositive();
+  }
+
+  @Test
+  void tryAcquire_ShouldRefillOneTokenPerInterval() {
+    // Given
+    RateLimiter.Key key = new RateLimiter.Key("POST /loans", "customer", "1");
+    for (int i = 0; i < LIMIT.getCapacity(); i++) {
+      rateLimiter.tryAcquire(key, LIMIT);
+    }
+
+    // When
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    long refilled = rateLimiter.tryAcquire(key, LIMIT);
+    long rejected = rateLimiter.tryAcquire(key, LIMIT);
+
+    // Then
+    assertThat(refilled).isZero();
+    assertThat(rejected).isPositive();
+  }
+
+  @Test
+  void tryAcquire_ShouldKeepSeparateBucketsPerKey() {
+    // Given
+    RateLimiter.Key customer = new RateLimiter.Key("POST /loans", "customer", "1");
+    RateLimiter.Key otherCustomer = new RateLimiter.Key("POST /loans", "customer", "2");
+    for (int i = 0; i < LIMIT.getCapacity(); i++) {
+      rateLimiter.tryAcquire(customer, LIMIT);
+    }
+
+    // When
+    long exhausted = rateLimiter.tryAcquire(customer, LIMIT);
+    long other = rateLimiter.tryAcquire(otherCustomer, LIMIT);
+
+    // Then
+    assertThat(exhausted).isPositive();
+    assertThat(other).isZero();
+  }
+}
@@ -4,9 +4,11 @@ import com.furkanbegen.creditmodule.repository.CustomerRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.stereotype.Component;
 
-@Component("customerSecurity")
+/**
+ * Registered as {@code customerSecurity} by {@code SecurityTestConfig} only. It is not a component,
+ * so full application contexts keep the real evaluator.
+ */
 @RequiredArgsConstructor
 public class TestCustomerSecurityEvaluator {
 
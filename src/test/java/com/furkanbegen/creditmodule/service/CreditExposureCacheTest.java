@@ -0,0 +1,67 @@
+package com.furkanbegen.creditmodule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.service.impl.CreditExposureCache;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CreditExposureCacheTest {
+
+  private CreditExposureCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new CreditExposureCache(new CreditExposureProperties());
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void isKnownInsufficient_ShouldOnlyRejectAmountsAboveRecordedCredit() {
+    // Given
+    cache.record(1L, new BigDecimal("100.50"));
+
+    // Then
+    assertThat(cache.isKnownInsufficient(1L, new BigDecimal("100.51"))).isTrue();
+    assertThat(cache.isKnownInsufficient(1L, new BigDecimal("100.50"))).isFalse();
+    assertThat(cache.isKnownInsufficient(2L, new BigDecimal("1000000"))).isFalse();
+  }
+
+  @Test
+  void recordOnCommit_ShouldOnlyStoreCreditAfterCommit() {
+    // Given
+    cache.record(1L, new BigDecimal("1000"));
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    cache.recordOnCommit(1L, new BigDecimal("10"));
+
+    // Then - dropped while the transaction is open, stored once it commits
+    assertThat(cache.isKnownInsufficient(1L, new BigDecimal("500"))).isFalse();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(cache.isKnownInsufficient(1L, new BigDecimal("500"))).isTrue();
+  }
+
+  @Test
+  void invalidate_ShouldForgetCustomer() {
+    // Given
+    cache.record(1L, BigDecimal.ZERO);
+
+    // When
+    cache.invalidate(1L);
+
+    // Then
+    assertThat(cache.isKnownInsufficient(1L, BigDecimal.ONE)).isFalse();
+  }
+}
@@ -0,0 +1,80 @@
+package com.furkanbegen.creditmodule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.model.Customer;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class DueDateResolverTest {
+
+  private static final LocalDateTime CREATE_DATE = LocalDateTime.of(2025, 1, 30, 14, 45);
+
+  @Test
+  void getFirstDueDate_WhenFirstDayOfMonthPolicy_ShouldReturnFirstOfNextMonth() {
+    // Given
+    DueDateResolver resolver = new DueDateResolver();
+
+    // When
+    LocalDateTime dueDate = resolver.getFirstDueDate(customer(1L, null), CREATE_DATE);
+
+    // Then
+    assertThat(dueDate).isEqualTo(LocalDateTime.of(2025, 2, 1, 0, 0));
+  }
+
+  @Test
+  void getFirstDueDate_WhenFixedDayPolicy_ShouldUseCustomerDayOrFallBackToFirst() {
+    // Given
+    DueDateResolver resolver = new DueDateResolver();
+    resolver.setPolicy(DueDateResolver.Policy.FIXED_DAY_OF_MONTH);
+
+    // When/Then
+    assertThat(resolver.getFirstDueDate(customer(1L, 15), CREATE_DATE))
+        .isEqualTo(LocalDateTime.of(2025, 2, 15, 0, 0));
+    assertThat(resolver.getFirstDueDate(customer(1L, 31), CREATE_DATE))
+        .isEqualTo(LocalDateTime.of(2025, 2, 28, 0, 0));
+    assertThat(resolver.getFirstDueDate(customer(1L, null), CREATE_DATE))
+        .isEqualTo(LocalDateTime.of(2025, 2, 1, 0, 0));
+  }
+
+  @Test
+  void getFirstDueDate_WhenAnniversaryPolicy_ShouldUseCreationDayCappedAt28() {
+    // Given
+    DueDateResolver resolver = new DueDateResolver();
+    resolver.setPolicy(DueDateResolver.Policy.ANNIVERSARY);
+
+    // When/Then
+    assertThat(resolver.getFirstDueDate(customer(1L, null), CREATE_DATE.withDayOfMonth(12)))
+        .isEqualTo(LocalDateTime.of(2025, 2, 12, 0, 0));
+    assertThat(resolver.getFirstDueDate(customer(1L, null), CREATE_DATE))
+        .isEqualTo(LocalDateTime.of(2025, 2, 28, 0, 0));
+  }
+
+  @Test
+  void getFirstDueDate_WhenHashedBucketPolicy_ShouldSpreadCustomersAcrossBuckets() {
+    // Given
+    DueDateResolver resolver = new DueDateResolver();
+    resolver.setPolicy(DueDateResolver.Policy.HASHED_BUCKET);
+    resolver.setBucketCount(10);
+
+    // When
+    Set<Integer> days = new HashSet<>();
+    for (long customerId = 1; customerId <= 1000; customerId++) {
+      days.add(resolver.getFirstDueDate(customer(customerId, null), CREATE_DATE).getDayOfMonth());
+    }
+
+    // Then
+    assertThat(days).hasSize(10).allMatch(day -> day >= 1 && day <= 10);
+    assertThat(resolver.getFirstDueDate(customer(42L, null), CREATE_DATE))
+        .isEqualTo(resolver.getFirstDueDate(customer(42L, null), CREATE_DATE.plusDays(1)));
+  }
+
+  private Customer customer(Long id, Integer dueDayOfMonth) {
+    Customer customer = new Customer();
+    customer.setId(id);
+    customer.setDueDayOfMonth(dueDayOfMonth);
+    return customer;
+  }
+}
@@ -0,0 +1,88 @@
+package com.furkanbegen.creditmodule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.dto.LoanLedgerResponse;
+import com.furkanbegen.creditmodule.dto.LoanPaymentRequest;
+import com.furkanbegen.creditmodule.dto.LoanPaymentResponse;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.model.Loan;
+import com.furkanbegen.creditmodule.model.LoanEventType;
+import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.LoanSnapshotRepository;
+import com.furkanbegen.creditmodule.repository.UserRepository;
+import com.furkanbegen.creditmodule.service.impl.LoanService;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {"loan.ledger.snapshot-interval=2", "spring.jpa.show-sql=false"})
+class LoanLedgerTest {
+
+  @Autowired private LoanService loanService;
+
+  @Autowired private LoanSnapshotRepository loanSnapshotRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void payLoan_ShouldAppendEventsAndSnapshotMatchingReplay() {
+    // Given
+    Long userId = userRepository.findByEmail("customer@test.com").orElseThrow().getId();
+    Long customerId = customerRepository.findByUserId(userId).orElseThrow().getId();
+    CreateLoanRequest createRequest = new CreateLoanRequest();
+    createRequest.setLoanAmount(BigDecimal.valueOf(1200));
+    createRequest.setInterestRate(BigDecimal.valueOf(0.1));
+    createRequest.setNumberOfInstallment(InstallmentOption.SIX);
+    Loan loan = loanService.createLoan(customerId, createRequest);
+    LocalDateTime beforePayment = LocalDateTime.now();
+
+    // When - both installments are paid early, so each also gets a discount event
+    LoanPaymentRequest payRequest = new LoanPaymentRequest();
+    payRequest.setPaymentAmount(BigDecimal.valueOf(440));
+    LoanPaymentResponse payment = loanService.payLoan(customerId, loan.getId(), payRequest);
+
+    // Then
+    assertThat(payment.getNumberOfInstallmentsPaid()).isEqualTo(2);
+    assertThat(eventCount(loan.getId(), LoanEventType.CREATED)).isEqualTo(1);
+    assertThat(eventCount(loan.getId(), LoanEventType.INSTALLMENT_SETTLED)).isEqualTo(2);
+    assertThat(eventCount(loan.getId(), LoanEventType.DISCOUNT)).isEqualTo(2);
+    assertThat(loanSnapshotRepository.findById(loan.getId()))
+        .hasValueSatisfying(snapshot -> assertThat(snapshot.getSettledInstallments()).isEqualTo(2));
+
+    LoanLedgerResponse current = loanService.getLedger(customerId, loan.getId(), null);
+    assertThat(current.getLoanAmount()).isEqualByComparingTo(loan.getLoanAmount());
+    assertThat(current.getSettledInstallments()).isEqualTo(2);
+    assertThat(current.getTotalPaid()).isEqualByComparingTo(payment.getTotalAmountPaid());
+    assertThat(current.getTotalDiscount()).isEqualByComparingTo(payment.getTotalDiscount());
+    assertThat(current.isPaid()).isFalse();
+
+    LoanLedgerResponse replayed =
+        loanService.getLedger(customerId, loan.getId(), LocalDateTime.now());
+    assertThat(replayed.getTotalPaid()).isEqualByComparingTo(current.getTotalPaid());
+    assertThat(replayed.getOutstandingAmount())
+        .isEqualByComparingTo(current.getOutstandingAmount());
+
+    LoanLedgerResponse beforePaymentState =
+        loanService.getLedger(customerId, loan.getId(), beforePayment);
+    assertThat(beforePaymentState.getSettledInstallments()).isZero();
+    assertThat(beforePaymentState.getOutstandingAmount())
+        .isEqualByComparingTo(loan.getLoanAmount());
+  }
+
+  private int eventCount(Long loanId, LoanEventType type) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM loan_events WHERE loan_id = ? AND event_type = ?",
+        Integer.class,
+        loanId,
+        type.name());
+  }
+}
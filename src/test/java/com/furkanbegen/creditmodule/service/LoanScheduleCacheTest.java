@@ -0,0 +1,69 @@
+package com.furkanbegen.creditmodule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.service.impl.LoanSchedule;
+import com.furkanbegen.creditmodule.service.impl.LoanScheduleCache;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class LoanScheduleCacheTest {
+
+  private static final LocalDateTime FIRST_DUE_DATE = LocalDateTime.of(2026, 11, 1, 0, 0);
+
+  @Test
+  void get_ShouldShareEntryAcrossBigDecimalScale() {
+    // Given
+    LoanScheduleCache cache = new LoanScheduleCache(10);
+
+    // When
+    LoanSchedule schedule =
+        cache.get(
+            new BigDecimal("1000"), new BigDecimal("0.1"), InstallmentOption.SIX, FIRST_DUE_DATE);
+    LoanSchedule sameSchedule =
+        cache.get(
+            new BigDecimal("1000.00"),
+            new BigDecimal("0.10"),
+            InstallmentOption.SIX,
+            FIRST_DUE_DATE);
+
+    // Then
+    assertThat(sameSchedule).isSameAs(schedule);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void get_ShouldKeepDistinctEntriesForDifferentValues() {
+    // Given
+    LoanScheduleCache cache = new LoanScheduleCache(10);
+
+    // When
+    LoanSchedule schedule =
+        cache.get(
+            new BigDecimal("1000"), new BigDecimal("0.1"), InstallmentOption.SIX, FIRST_DUE_DATE);
+    LoanSchedule otherSchedule =
+        cache.get(
+            new BigDecimal("1000"), new BigDecimal("0.1"), InstallmentOption.NINE, FIRST_DUE_DATE);
+
+    // Then
+    assertThat(otherSchedule).isNotSameAs(schedule);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void get_ShouldEvictBeyondMaxSize() {
+    // Given
+    LoanScheduleCache cache = new LoanScheduleCache(3);
+
+    // When
+    for (int amount = 1000; amount < 1010; amount++) {
+      cache.get(
+          BigDecimal.valueOf(amount), new BigDecimal("0.1"), InstallmentOption.SIX, FIRST_DUE_DATE);
+    }
+
+    // Then
+    assertThat(cache.size()).isEqualTo(3);
+  }
+}
@@ -5,21 +5,37 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.furkanbegen.creditmodule.config.ReadReplicaProperties;
+import com.furkanbegen.creditmodule.config.ReadYourWritesTracker;
 import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
 import com.furkanbegen.creditmodule.dto.LoanFilterDTO;
 import com.furkanbegen.creditmodule.dto.LoanPaymentRequest;
 import com.furkanbegen.creditmodule.dto.LoanPaymentResponse;
+import com.furkanbegen.creditmodule.dto.LoanPayoffResponse;
+import com.furkanbegen.creditmodule.dto.LoanQuoteInstallmentDTO;
+import com.furkanbegen.creditmodule.dto.LoanQuoteResponse;
+import com.furkanbegen.creditmodule.dto.PayoffInstallmentDTO;
 import com.furkanbegen.creditmodule.exception.InsufficientCreditLimitException;
 import com.furkanbegen.creditmodule.model.Customer;
 import com.furkanbegen.creditmodule.model.InstallmentOption;
 import com.furkanbegen.creditmodule.model.Loan;
 import com.furkanbegen.creditmodule.model.LoanInstallment;
+import com.furkanbegen.creditmodule.monitoring.CreditMetrics;
 import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.LoanInstallmentRepository;
 import com.furkanbegen.creditmodule.repository.LoanRepository;
+import com.furkanbegen.creditmodule.repository.projection.LoanInstallmentRow;
+import com.furkanbegen.creditmodule.repository.projection.UnpaidInstallmentView;
+import com.furkanbegen.creditmodule.service.impl.CreditExposureCache;
+import com.furkanbegen.creditmodule.service.impl.LoanLedger;
+import com.furkanbegen.creditmodule.service.impl.LoanOutbox;
+import com.furkanbegen.creditmodule.service.impl.LoanScheduleCache;
 import com.furkanbegen.creditmodule.service.impl.LoanService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -38,15 +54,38 @@ class LoanServiceTest {
 
   @Mock private LoanRepository loanRepository;
 
+  @Mock private LoanInstallmentRepository loanInstallmentRepository;
+
+  @Mock private LoanLedger loanLedger;
+
+  @Mock private LoanOutbox loanOutbox;
+
   @Captor private ArgumentCaptor<Loan> loanCaptor;
 
   @Captor private ArgumentCaptor<Customer> customerCaptor;
 
+  private SimpleMeterRegistry meterRegistry;
+
+  private CreditExposureCache creditExposureCache;
+
   private LoanService loanService;
 
   @BeforeEach
   void setUp() {
-    loanService = new LoanService(customerRepository, loanRepository);
+    meterRegistry = new SimpleMeterRegistry();
+    creditExposureCache = new CreditExposureCache(new CreditExposureProperties());
+    loanService =
+        new LoanService(
+            customerRepository,
+            loanRepository,
+            loanInstallmentRepository,
+            new DueDateResolver(),
+            new LoanScheduleCache(100),
+            new CreditMetrics(meterRegistry),
+            new ReadYourWritesTracker(new ReadReplicaProperties()),
+            loanLedger,
+            loanOutbox,
+            creditExposureCache);
   }
 
   @Test
@@ -76,6 +115,8 @@ class LoanServiceTest {
 
     Loan capturedLoan = loanCaptor.getValue();
     Customer capturedCustomer = customerCaptor.getValue();
+    verify(loanLedger).recordCreated(capturedLoan);
+    verify(loanOutbox).loanCreated(capturedLoan);
 
     // Then - Verify loan details
     BigDecimal expectedLoanAmount =
@@ -119,6 +160,14 @@ class LoanServiceTest {
     // Then - Verify no interactions
     verify(loanRepository, never()).save(any());
     verify(customerRepository, never()).save(any());
+    assertThat(
+            meterRegistry
+                .get("credit.operation")
+                .tag("operation", CreditMetrics.LOAN_CREATE)
+                .tag("outcome", CreditMetrics.OUTCOME_NOT_FOUND)
+                .timer()
+                .count())
+        .isEqualTo(1);
   }
 
   @Test
@@ -136,6 +185,8 @@ class LoanServiceTest {
     customer.setUsedCreditLimit(BigDecimal.ZERO);
 
     when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+    when(customerRepository.findAvailableCreditById(customerId))
+        .thenReturn(Optional.of(BigDecimal.valueOf(10000)));
 
     // When/Then
     assertThrows(
@@ -146,6 +197,61 @@ class LoanServiceTest {
     verify(customerRepository, never()).save(any());
   }
 
+  @Test
+  void createLoan_WhenKnownInsufficientCreditLimit_ShouldRejectWithoutReadingCustomer() {
+    // Given
+    Long customerId = 1L;
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(BigDecimal.valueOf(12000));
+    request.setNumberOfInstallment(InstallmentOption.TWELVE);
+    request.setInterestRate(BigDecimal.valueOf(0.2));
+
+    Customer customer = new Customer();
+    customer.setId(customerId);
+    customer.setCreditLimit(BigDecimal.valueOf(10000));
+    customer.setUsedCreditLimit(BigDecimal.ZERO);
+
+    when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+    when(customerRepository.findAvailableCreditById(customerId))
+        .thenReturn(Optional.of(BigDecimal.valueOf(10000)));
+    assertThrows(
+        InsufficientCreditLimitException.class, () -> loanService.createLoan(customerId, request));
+
+    // When/Then - the second attempt is turned down from the remembered available credit
+    assertThrows(
+        InsufficientCreditLimitException.class, () -> loanService.createLoan(customerId, request));
+    verify(customerRepository, times(1)).findById(customerId);
+  }
+
+  @Test
+  void createLoan_WhenCachedCustomerIsStale_ShouldRememberFreshAvailableCredit() {
+    // Given - the cached row still shows 10000 available, the database only 1000
+    Long customerId = 1L;
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(BigDecimal.valueOf(12000));
+    request.setNumberOfInstallment(InstallmentOption.TWELVE);
+    request.setInterestRate(BigDecimal.valueOf(0.2));
+
+    Customer customer = new Customer();
+    customer.setId(customerId);
+    customer.setCreditLimit(BigDecimal.valueOf(10000));
+    customer.setUsedCreditLimit(BigDecimal.ZERO);
+
+    when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+    when(customerRepository.findAvailableCreditById(customerId))
+        .thenReturn(Optional.of(BigDecimal.valueOf(1000)));
+
+    // When
+    assertThrows(
+        InsufficientCreditLimitException.class, () -> loanService.createLoan(customerId, request));
+
+    // Then
+    assertThat(creditExposureCache.isKnownInsufficient(customerId, BigDecimal.valueOf(1001)))
+        .isTrue();
+    assertThat(creditExposureCache.isKnownInsufficient(customerId, BigDecimal.valueOf(1000)))
+        .isFalse();
+  }
+
   @Test
   void createLoan_WhenPartiallyUsedCreditLimit_ShouldConsiderRemainingLimit() {
     // Given
@@ -235,11 +341,46 @@ class LoanServiceTest {
     assertThat(actualTotalAmount.compareTo(expectedTotalAmount)).isZero();
   }
 
+  @Test
+  void quoteLoan_ShouldReturnScheduleWithoutPersisting() {
+    // Given
+    Long customerId = 1L;
+    CreateLoanRequest request = new CreateLoanRequest();
+    request.setLoanAmount(BigDecimal.valueOf(12000));
+    request.setNumberOfInstallment(InstallmentOption.TWELVE);
+    request.setInterestRate(BigDecimal.valueOf(0.2));
+
+    Customer customer = new Customer();
+    customer.setId(customerId);
+    customer.setCreditLimit(BigDecimal.valueOf(10000));
+    customer.setUsedCreditLimit(BigDecimal.ZERO);
+
+    when(customerRepository.findById(customerId)).thenReturn(Optional.of(customer));
+
+    // When
+    LoanQuoteResponse quote = loanService.quoteLoan(customerId, request);
+
+    // Then
+    assertThat(quote.getTotalAmount()).isEqualByComparingTo("14400.00");
+    assertThat(quote.getInstallmentAmount()).isEqualByComparingTo("1200.00");
+    assertThat(quote.isWithinCreditLimit()).isFalse();
+    assertThat(quote.getInstallments())
+        .hasSize(12)
+        .extracting(LoanQuoteInstallmentDTO::getDueDate)
+        .isSorted()
+        .allMatch(dueDate -> dueDate.getDayOfMonth() == 1);
+
+    // Then - nothing is reserved or written
+    verify(loanRepository, never()).save(any());
+    verify(customerRepository, never()).save(any());
+    assertThat(customer.getUsedCreditLimit()).isEqualTo(BigDecimal.ZERO);
+  }
+
   @Test
   void getLoans_WhenCustomerNotFound_ShouldThrowEntityNotFoundException() {
     // Given
     Long customerId = 999L;
-    when(customerRepository.existsById(customerId)).thenReturn(false);
+    when(customerRepository.findById(customerId)).thenReturn(Optional.empty());
 
     // When/Then
     assertThrows(
@@ -250,126 +391,144 @@ class LoanServiceTest {
   void getLoans_WhenNoFilters_ShouldReturnAllLoans() {
     // Given
     Long customerId = 1L;
-    when(customerRepository.existsById(customerId)).thenReturn(true);
+    when(customerRepository.findById(customerId)).thenReturn(Optional.of(new Customer()));
 
-    List<Loan> expectedLoans = createSampleLoans();
-    when(loanRepository.findLoansWithFilters(
+    List<LoanInstallmentRow> expectedRows = rowsOf(createSampleLoans());
+    when(loanRepository.findLoanRowsWithFilters(
             eq(customerId), isNull(), isNull(), isNull(), any(LocalDateTime.class)))
-        .thenReturn(expectedLoans);
+        .thenReturn(expectedRows);
 
     // When
-    List<Loan> result = loanService.getLoans(customerId, null);
+    List<LoanInstallmentRow> result = loanService.getLoans(customerId, null);
 
     // Then
-    assertThat(result).hasSize(3);
+    assertThat(result).hasSize(30);
+    assertThat(result).extracting(LoanInstallmentRow::loanId).containsOnly(1L, 2L, 3L);
     verify(loanRepository)
-        .findLoansWithFilters(
+        .findLoanRowsWithFilters(
             eq(customerId), isNull(), isNull(), isNull(), any(LocalDateTime.class));
   }
 
   @Test
-  void getLoans_WhenFilterByPaidStatus_ShouldReturnOnlyPaidLoans() {
+  void getLoans_WhenFilterByPaidStatus_ShouldPassPaidFilter() {
     // Given
     Long customerId = 1L;
-    when(customerRepository.existsById(customerId)).thenReturn(true);
+    when(customerRepository.findById(customerId)).thenReturn(Optional.of(new Customer()));
 
     LoanFilterDTO filter = new LoanFilterDTO();
     filter.setIsPaid(true);
 
-    List<Loan> expectedLoans = createSampleLoans().stream().filter(Loan::getIsPaid).toList();
+    List<LoanInstallmentRow> expectedRows =
+        rowsOf(createSampleLoans().stream().filter(Loan::getIsPaid).toList());
 
-    when(loanRepository.findLoansWithFilters(
+    when(loanRepository.findLoanRowsWithFilters(
             eq(customerId), eq(true), isNull(), isNull(), any(LocalDateTime.class)))
-        .thenReturn(expectedLoans);
+        .thenReturn(expectedRows);
 
     // When
-    List<Loan> result = loanService.getLoans(customerId, filter);
+    List<LoanInstallmentRow> result = loanService.getLoans(customerId, filter);
 
     // Then
-    assertThat(result).isNotEmpty().allMatch(Loan::getIsPaid);
+    assertThat(result).isNotEmpty().allMatch(LoanInstallmentRow::isPaid);
   }
 
   @Test
-  void getLoans_WhenFilterByInstallments_ShouldReturnLoansWithMatchingInstallments() {
+  void getLoans_WhenFilterByInstallments_ShouldPassInstallmentFilter() {
     // Given
     Long customerId = 1L;
-    when(customerRepository.existsById(customerId)).thenReturn(true);
+    when(customerRepository.findById(customerId)).thenReturn(Optional.of(new Customer()));
 
     LoanFilterDTO filter = new LoanFilterDTO();
     filter.setNumberOfInstallment(InstallmentOption.TWELVE);
 
-    List<Loan> expectedLoans =
-        createSampleLoans().stream().filter(loan -> loan.getNumberOfInstallment() == 12).toList();
+    List<LoanInstallmentRow> expectedRows =
+        rowsOf(
+            createSampleLoans().stream()
+                .filter(loan -> loan.getNumberOfInstallment() == 12)
+                .toList());
 
-    when(loanRepository.findLoansWithFilters(
+    when(loanRepository.findLoanRowsWithFilters(
             eq(customerId), isNull(), eq(12), isNull(), any(LocalDateTime.class)))
-        .thenReturn(expectedLoans);
+        .thenReturn(expectedRows);
 
     // When
-    List<Loan> result = loanService.getLoans(customerId, filter);
+    List<LoanInstallmentRow> result = loanService.getLoans(customerId, filter);
 
     // Then
-    assertThat(result).isNotEmpty().allMatch(loan -> loan.getNumberOfInstallment() == 12);
+    assertThat(result).isNotEmpty().allMatch(row -> row.numberOfInstallment() == 12);
   }
 
   @Test
-  void getLoans_WhenFilterByOverdue_ShouldReturnOverdueLoans() {
+  void getLoans_WhenFilterByOverdue_ShouldPassOverdueFilter() {
     // Given
     Long customerId = 1L;
-    when(customerRepository.existsById(customerId)).thenReturn(true);
+    when(customerRepository.findById(customerId)).thenReturn(Optional.of(new Customer()));
 
     LoanFilterDTO filter = new LoanFilterDTO();
     filter.setIsOverdue(true);
 
-    List<Loan> expectedLoans =
-        createSampleLoans().stream().filter(this::hasOverdueInstallments).toList();
+    List<LoanInstallmentRow> expectedRows =
+        rowsOf(createSampleLoans().stream().filter(this::hasOverdueInstallments).toList());
 
-    when(loanRepository.findLoansWithFilters(
+    when(loanRepository.findLoanRowsWithFilters(
             eq(customerId), isNull(), isNull(), eq(true), any(LocalDateTime.class)))
-        .thenReturn(expectedLoans);
+        .thenReturn(expectedRows);
 
     // When
-    List<Loan> result = loanService.getLoans(customerId, filter);
+    List<LoanInstallmentRow> result = loanService.getLoans(customerId, filter);
 
     // Then
-    assertThat(result).isNotEmpty().allMatch(this::hasOverdueInstallments);
+    assertThat(result)
+        .isNotEmpty()
+        .anyMatch(row -> !row.isPaid() && row.dueDate().isBefore(LocalDateTime.now()));
   }
 
   @Test
   void getLoans_WhenMultipleFilters_ShouldApplyAllFilters() {
     // Given
     Long customerId = 1L;
-    when(customerRepository.existsById(customerId)).thenReturn(true);
+    when(customerRepository.findById(customerId)).thenReturn(Optional.of(new Customer()));
 
     LoanFilterDTO filter = new LoanFilterDTO();
     filter.setIsPaid(false);
     filter.setNumberOfInstallment(InstallmentOption.TWELVE);
     filter.setIsOverdue(true);
 
-    List<Loan> expectedLoans =
-        createSampleLoans().stream()
-            .filter(
-                loan ->
-                    !loan.getIsPaid()
-                        && loan.getNumberOfInstallment() == 12
-                        && hasOverdueInstallments(loan))
-            .toList();
-
-    when(loanRepository.findLoansWithFilters(
+    List<LoanInstallmentRow> expectedRows =
+        rowsOf(
+            createSampleLoans().stream()
+                .filter(
+                    loan ->
+                        !loan.getIsPaid()
+                            && loan.getNumberOfInstallment() == 12
+                            && hasOverdueInstallments(loan))
+                .toList());
+
+    when(loanRepository.findLoanRowsWithFilters(
             eq(customerId), eq(false), eq(12), eq(true), any(LocalDateTime.class)))
-        .thenReturn(expectedLoans);
+        .thenReturn(expectedRows);
 
     // When
-    List<Loan> result = loanService.getLoans(customerId, filter);
+    List<LoanInstallmentRow> result = loanService.getLoans(customerId, filter);
 
     // Then
     assertThat(result)
         .isNotEmpty()
-        .allMatch(
-            loan ->
-                !loan.getIsPaid()
-                    && loan.getNumberOfInstallment() == 12
-                    && hasOverdueInstallments(loan));
+        .allMatch(row -> row.loanId() == 3L && row.numberOfInstallment() == 12);
+  }
+
+  @Test
+  void getInstallments_WhenLoanDoesNotExist_ShouldThrowEntityNotFoundException() {
+    // Given
+    Long customerId = 1L;
+    Long loanId = 999L;
+
+    when(loanRepository.findLoanRowsByIdAndCustomerId(loanId, customerId))
+        .thenReturn(Collections.emptyList());
+
+    // When/Then
+    assertThrows(
+        EntityNotFoundException.class, () -> loanService.getInstallments(customerId, loanId));
   }
 
   @Test
@@ -510,6 +669,8 @@ class LoanServiceTest {
     assertThat(response.getTotalPenalty()).isEqualTo(BigDecimal.ZERO);
     assertThat(response.getTotalAmountPaid()).isLessThan(installmentAmount);
     verify(loanRepository).save(loan);
+    verify(loanLedger).recordPayment(eq(loan), argThat(settled -> settled.size() == 1), any());
+    verify(loanOutbox).loanPaid(loan, response);
   }
 
   @Test
@@ -528,8 +689,11 @@ class LoanServiceTest {
     loan.setCustomer(customer); // Set customer
     loan.setLoanAmount(installmentAmount);
 
-    // Set due date to 10 days in past
-    loan.getInstallments().iterator().next().setDueDate(LocalDateTime.now().minusDays(10));
+    // Set due date to 10 days in past, with the penalty accrued so far
+    LoanInstallment installment = loan.getInstallments().iterator().next();
+    installment.setDueDate(LocalDateTime.now().minusDays(10));
+    installment.setAccruedPenalty(BigDecimal.valueOf(10));
+    installment.setDaysLate(10);
 
     when(loanRepository.findByIdAndCustomerId(loanId, customerId)).thenReturn(Optional.of(loan));
 
@@ -543,6 +707,8 @@ class LoanServiceTest {
     assertThat(response.getTotalPenalty()).isGreaterThan(BigDecimal.ZERO);
     assertThat(response.getTotalDiscount()).isEqualTo(BigDecimal.ZERO);
     assertThat(response.getTotalAmountPaid()).isGreaterThan(installmentAmount);
+    assertThat(installment.getAccruedPenalty()).isNull();
+    assertThat(installment.getDaysLate()).isNull();
     verify(loanRepository).save(loan);
   }
 
@@ -577,6 +743,30 @@ class LoanServiceTest {
     verify(customerRepository).save(customer);
   }
 
+  @Test
+  void payLoan_WhenPayingFullLoan_ShouldForgetRememberedAvailableCredit() {
+    // Given
+    Long customerId = 1L;
+    Long loanId = 1L;
+    Customer customer = new Customer();
+    customer.setUsedCreditLimit(BigDecimal.valueOf(3000));
+    Loan loan = createLoanWithInstallments(loanId, BigDecimal.valueOf(1000), 3);
+    loan.setLoanAmount(BigDecimal.valueOf(3000));
+    loan.setCustomer(customer);
+    creditExposureCache.record(customerId, BigDecimal.ZERO);
+
+    when(loanRepository.findByIdAndCustomerId(loanId, customerId)).thenReturn(Optional.of(loan));
+
+    LoanPaymentRequest request = new LoanPaymentRequest();
+    request.setPaymentAmount(BigDecimal.valueOf(3000));
+
+    // When
+    loanService.payLoan(customerId, loanId, request);
+
+    // Then - the released credit is read from the database on the next request
+    assertThat(creditExposureCache.isKnownInsufficient(customerId, BigDecimal.ONE)).isFalse();
+  }
+
   @Test
   void payLoan_WhenLoanAlreadyPaid_ShouldThrowException() {
     // Given
@@ -619,6 +809,114 @@ class LoanServiceTest {
         IllegalStateException.class, () -> loanService.payLoan(customerId, loanId, request));
   }
 
+  @Test
+  void simulatePayoff_ShouldApplyDiscountsAndPenaltiesWithoutWriting() {
+    // Given
+    Long customerId = 1L;
+    Long loanId = 1L;
+    LocalDate payoffDate = LocalDate.of(2025, 3, 11);
+
+    List<UnpaidInstallmentView> unpaid =
+        List.of(
+            unpaidInstallment(1L, payoffDate.minusDays(10)),
+            unpaidInstallment(2L, payoffDate),
+            unpaidInstallment(3L, payoffDate.plusDays(20)),
+            unpaidInstallment(4L, payoffDate.plusMonths(4)));
+    when(loanInstallmentRepository.findUnpaidByLoanIdAndCustomerId(loanId, customerId))
+        .thenReturn(unpaid);
+
+    // When
+    LoanPayoffResponse response = loanService.simulatePayoff(customerId, loanId, payoffDate);
+
+    // Then - 1000 + 10 penalty, 1000, 1000 - 20 discount, 1000 - 122 discount (4 months early)
+    assertThat(response.getTotalPenalty()).isEqualByComparingTo("10");
+    assertThat(response.getTotalDiscount()).isEqualByComparingTo("142");
+    assertThat(response.getTotalPayoffAmount()).isEqualByComparingTo("3868");
+    assertThat(response.getPayableAmount()).isEqualByComparingTo("2990");
+    assertThat(response.getInstallments())
+        .extracting(PayoffInstallmentDTO::isPayable)
+        .containsExactly(true, true, true, false);
+
+    verify(loanRepository, never()).save(any());
+    verifyNoInteractions(customerRepository);
+  }
+
+  @Test
+  void simulatePayoff_ShouldMarkPayableTheSameInstallmentsAsPayLoan() {
+    // Given - one installment due on the last payable day, one the day after
+    Long customerId = 1L;
+    Long loanId = 1L;
+    LocalDate today = LocalDate.now();
+    LocalDate lastPayableDay = today.plusMonths(3);
+    when(loanInstallmentRepository.findUnpaidByLoanIdAndCustomerId(loanId, customerId))
+        .thenReturn(
+            List.of(
+                unpaidInstallment(1L, lastPayableDay),
+                unpaidInstallment(2L, lastPayableDay.plusDays(1))));
+
+    Loan loan = createLoanWithInstallments(loanId, BigDecimal.valueOf(1000), 0);
+    loan.setInstallments(
+        new HashSet<>(
+            List.of(
+                unpaidLoanInstallment(1L, loan, lastPayableDay),
+                unpaidLoanInstallment(2L, loan, lastPayableDay.plusDays(1)))));
+    when(loanRepository.findByIdAndCustomerId(loanId, customerId)).thenReturn(Optional.of(loan));
+    LoanPaymentRequest request = new LoanPaymentRequest();
+    request.setPaymentAmount(BigDecimal.valueOf(2000));
+
+    // When
+    LoanPayoffResponse payoff = loanService.simulatePayoff(customerId, loanId, today);
+    LoanPaymentResponse payment = loanService.payLoan(customerId, loanId, request);
+
+    // Then
+    assertThat(payoff.getInstallments())
+        .extracting(PayoffInstallmentDTO::isPayable)
+        .containsExactly(true, false);
+    assertThat(payment.getNumberOfInstallmentsPaid()).isEqualTo(1);
+    assertThat(payment.getTotalAmountPaid()).isEqualByComparingTo(payoff.getPayableAmount());
+  }
+
+  @Test
+  void simulatePayoff_WhenLoanDoesNotExist_ShouldThrowEntityNotFoundException() {
+    // Given
+    when(loanInstallmentRepository.findUnpaidByLoanIdAndCustomerId(999L, 1L)).thenReturn(List.of());
+    when(loanRepository.existsByIdAndCustomerId(999L, 1L)).thenReturn(false);
+
+    // When/Then
+    assertThrows(
+        EntityNotFoundException.class, () -> loanService.simulatePayoff(1L, 999L, LocalDate.now()));
+  }
+
+  private LoanInstallment unpaidLoanInstallment(Long id, Loan loan, LocalDate dueDate) {
+    LoanInstallment installment = new LoanInstallment();
+    installment.setId(id);
+    installment.setAmount(BigDecimal.valueOf(1000));
+    installment.setPaidAmount(BigDecimal.ZERO);
+    installment.setDueDate(dueDate.atStartOfDay());
+    installment.setIsPaid(false);
+    installment.setLoan(loan);
+    return installment;
+  }
+
+  private UnpaidInstallmentView unpaidInstallment(Long id, LocalDate dueDate) {
+    return new UnpaidInstallmentView() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public BigDecimal getAmount() {
+        return BigDecimal.valueOf(1000);
+      }
+
+      @Override
+      public LocalDateTime getDueDate() {
+        return dueDate.atStartOfDay();
+      }
+    };
+  }
+
   private List<Loan> createSampleLoans() {
     return List.of(
         createLoan(1L, true, 12, false),
@@ -648,6 +946,30 @@ class LoanServiceTest {
     return loan;
   }
 
+  private List<LoanInstallmentRow> rowsOf(List<Loan> loans) {
+    return loans.stream()
+        .flatMap(
+            loan ->
+                loan.getInstallments().stream()
+                    .map(
+                        installment ->
+                            new LoanInstallmentRow(
+                                loan.getId(),
+                                1L,
+                                loan.getLoanAmount(),
+                                loan.getNumberOfInstallment(),
+                                loan.getCreateDate(),
+                                installment.getId(),
+                                installment.getAmount(),
+                                installment.getPaidAmount(),
+                                installment.getDueDate(),
+                                installment.getPaymentDate(),
+                                installment.getIsPaid(),
+                                installment.getAccruedPenalty(),
+                                installment.getDaysLate())))
+        .toList();
+  }
+
   private boolean hasOverdueInstallments(Loan loan) {
     return loan.getInstallments().stream()
         .anyMatch(
@@ -0,0 +1,43 @@
+package com.furkanbegen.creditmodule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.furkanbegen.creditmodule.service.impl.NdjsonFileOutboxSink;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NdjsonFileOutboxSinkTest {
+
+  @TempDir private Path tempDir;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void publish_ShouldAppendOneJsonObjectPerLine() throws Exception {
+    // Given
+    Path file = tempDir.resolve("outbox/events.ndjson");
+    OutboxProperties properties = new OutboxProperties();
+    properties.setFile(file.toString());
+    NdjsonFileOutboxSink sink = new NdjsonFileOutboxSink(properties, objectMapper);
+    LocalDateTime createdAt = LocalDateTime.of(2025, 1, 31, 10, 0);
+
+    // When
+    sink.publish(
+        List.of(new OutboxMessage(1L, "loan.created", 7L, 3L, "{\"loanId\":7}", createdAt)));
+    sink.publish(List.of(new OutboxMessage(2L, "loan.paid", 7L, 3L, "{\"loanId\":7}", createdAt)));
+
+    // Then
+    List<String> lines = Files.readAllLines(file);
+    assertThat(lines).hasSize(2);
+    JsonNode second = objectMapper.readTree(lines.get(1));
+    assertThat(second.get("id").asLong()).isEqualTo(2L);
+    assertThat(second.get("type").asText()).isEqualTo("loan.paid");
+    assertThat(second.get("payload").get("loanId").asLong()).isEqualTo(7L);
+  }
+}
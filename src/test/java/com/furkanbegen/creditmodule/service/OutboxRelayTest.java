@@ -0,0 +1,102 @@
+package com.furkanbegen.creditmodule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.dto.CreateLoanRequest;
+import com.furkanbegen.creditmodule.dto.LoanPaymentRequest;
+import com.furkanbegen.creditmodule.model.InstallmentOption;
+import com.furkanbegen.creditmodule.model.Loan;
+import com.furkanbegen.creditmodule.repository.CustomerRepository;
+import com.furkanbegen.creditmodule.repository.UserRepository;
+import com.furkanbegen.creditmodule.service.impl.LoanOutbox;
+import com.furkanbegen.creditmodule.service.impl.LoanService;
+import com.furkanbegen.creditmodule.service.impl.OutboxRelay;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs on its own database with the scheduled poll pushed out of the way, so neither this context's
+ * nor another cached context's relay drains the outbox before the test does. The second-level cache
+ * is off because its regions are shared by every context in the JVM and would hand out customers
+ * from the other database.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:outboxtest",
+      "app.outbox.poll-interval=PT1H",
+      "app.outbox.batch-size=1",
+      "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+      "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+    })
+class OutboxRelayTest {
+
+  @Autowired private OutboxRelay outboxRelay;
+
+  @Autowired private LoanService loanService;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private CustomerRepository customerRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private RecordingListener listener;
+
+  @Test
+  void drainCurrent_ShouldPushCreatedAndPaidEventsInOrderAndMarkThemPublished() {
+    // Given
+    Long userId = userRepository.findByEmail("customer@test.com").orElseThrow().getId();
+    Long customerId = customerRepository.findByUserId(userId).orElseThrow().getId();
+    CreateLoanRequest createRequest = new CreateLoanRequest();
+    createRequest.setLoanAmount(BigDecimal.valueOf(1200));
+    createRequest.setInterestRate(BigDecimal.valueOf(0.1));
+    createRequest.setNumberOfInstallment(InstallmentOption.SIX);
+    Loan loan = loanService.createLoan(customerId, createRequest);
+    LoanPaymentRequest payRequest = new LoanPaymentRequest();
+    payRequest.setPaymentAmount(BigDecimal.valueOf(250));
+    loanService.payLoan(customerId, loan.getId(), payRequest);
+    listener.messages.clear();
+
+    // When - batches of one, so draining takes several transactions
+    outboxRelay.drainCurrent();
+
+    // Then
+    List<OutboxMessage> forLoan =
+        listener.messages.stream().filter(m -> m.loanId().equals(loan.getId())).toList();
+    assertThat(forLoan)
+        .extracting(OutboxMessage::type)
+        .containsExactly(LoanOutbox.LOAN_CREATED, LoanOutbox.LOAN_PAID);
+    assertThat(forLoan.get(1).payload()).contains("\"numberOfInstallmentsPaid\":1");
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE published_at IS NULL", Integer.class))
+        .isZero();
+  }
+
+  @TestConfiguration
+  static class ListenerConfig {
+
+    @Bean
+    RecordingListener recordingListener() {
+      return new RecordingListener();
+    }
+  }
+
+  static class RecordingListener {
+
+    private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+    @EventListener
+    public void on(OutboxMessage message) {
+      messages.add(message);
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package com.furkanbegen.creditmodule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.furkanbegen.creditmodule.config.ShardMap;
+import com.furkanbegen.creditmodule.config.ShardingProperties;
+import com.furkanbegen.creditmodule.model.JobCheckpoint;
+import com.furkanbegen.creditmodule.model.LoanInstallment;
+import com.furkanbegen.creditmodule.repository.JobCheckpointRepository;
+import com.furkanbegen.creditmodule.repository.LoanInstallmentRepository;
+import com.furkanbegen.creditmodule.service.impl.PenaltyAccrualJob;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PenaltyAccrualJobTest {
+
+  private static final LocalDate RUN_DATE = LocalDate.of(2025, 3, 11);
+
+  @Mock private LoanInstallmentRepository loanInstallmentRepository;
+
+  @Mock private JobCheckpointRepository jobCheckpointRepository;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private PenaltyAccrualProperties properties;
+
+  private PenaltyAccrualJob job;
+
+  @BeforeEach
+  void setUp() {
+    properties = new PenaltyAccrualProperties();
+    properties.setChunkSize(2);
+    job =
+        new PenaltyAccrualJob(
+            loanInstallmentRepository,
+            jobCheckpointRepository,
+            properties,
+            new TransactionTemplate(transactionManager),
+            new ShardMap(new ShardingProperties()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    job.shutdown();
+  }
+
+  @Test
+  void run_WhenOverdueInstallmentsExist_ShouldStorePenaltyAndAdvanceCheckpoint() {
+    // Given - yesterday's run finished, so today's run starts from the beginning
+    JobCheckpoint checkpoint = new JobCheckpoint();
+    checkpoint.setRunDate(RUN_DATE.minusDays(1));
+    checkpoint.setPartitionCount(1);
+    checkpoint.setLastProcessedId(99L);
+    checkpoint.setCompleted(true);
+    when(jobCheckpointRepository.findByJobNameAndPartitionNo("penalty-accrual", 0))
+        .thenReturn(Optional.of(checkpoint));
+
+    LoanInstallment tenDaysLate = installment(5L, RUN_DATE.minusDays(10));
+    LoanInstallment oneDayLate = installment(8L, RUN_DATE.minusDays(1));
+    LoanInstallment thirtyDaysLate = installment(9L, RUN_DATE.minusDays(30));
+    when(loanInstallmentRepository.findOverdueChunk(
+            eq(RUN_DATE.atStartOfDay()), eq(0L), eq(1), eq(0), any(Pageable.class)))
+        .thenReturn(List.of(tenDaysLate, oneDayLate));
+    when(loanInstallmentRepository.findOverdueChunk(
+            eq(RUN_DATE.atStartOfDay()), eq(8L), eq(1), eq(0), any(Pageable.class)))
+        .thenReturn(List.of(thirtyDaysLate));
+
+    // When
+    job.run(RUN_DATE);
+
+    // Then - penalty matches the payment-time formula: amount * 0.001 * days late
+    assertThat(tenDaysLate.getDaysLate()).isEqualTo(10);
+    assertThat(tenDaysLate.getAccruedPenalty()).isEqualByComparingTo("10.00");
+    assertThat(oneDayLate.getAccruedPenalty()).isEqualByComparingTo("1.00");
+    assertThat(thirtyDaysLate.getAccruedPenalty()).isEqualByComparingTo("30.00");
+    assertThat(thirtyDaysLate.getPenaltyAccruedAt()).isEqualTo(RUN_DATE.atStartOfDay());
+
+    assertThat(checkpoint.getLastProcessedId()).isEqualTo(9L);
+    assertThat(checkpoint.getCompleted()).isTrue();
+    assertThat(checkpoint.getRunDate()).isEqualTo(RUN_DATE);
+    verify(jobCheckpointRepository).save(checkpoint);
+  }
+
+  @Test
+  void run_WhenCheckpointCompletedForRunDate_ShouldSkipPartition() {
+    // Given
+    JobCheckpoint checkpoint = new JobCheckpoint();
+    checkpoint.setRunDate(RUN_DATE);
+    checkpoint.setPartitionCount(1);
+    checkpoint.setLastProcessedId(42L);
+    checkpoint.setCompleted(true);
+    when(jobCheckpointRepository.findByJobNameAndPartitionNo("penalty-accrual", 0))
+        .thenReturn(Optional.of(checkpoint));
+
+    // When
+    job.run(RUN_DATE);
+
+    // Then
+    verifyNoInteractions(loanInstallmentRepository);
+    verify(jobCheckpointRepository, never()).save(any());
+  }
+
+  @Test
+  void run_WhenCheckpointInterruptedForRunDate_ShouldResumeAfterLastProcessedId() {
+    // Given
+    JobCheckpoint checkpoint = new JobCheckpoint();
+    checkpoint.setRunDate(RUN_DATE);
+    checkpoint.setPartitionCount(1);
+    checkpoint.setLastProcessedId(42L);
+    checkpoint.setCompleted(false);
+    when(jobCheckpointRepository.findByJobNameAndPartitionNo("penalty-accrual", 0))
+        .thenReturn(Optional.of(checkpoint));
+    when(loanInstallmentRepository.findOverdueChunk(
+            any(LocalDateTime.class), eq(42L), eq(1), eq(0), any(Pageable.class)))
+        .thenReturn(List.of());
+
+    // When
+    job.run(RUN_DATE);
+
+    // Then
+    verify(loanInstallmentRepository)
+        .findOverdueChunk(any(LocalDateTime.class), eq(42L), eq(1), eq(0), any(Pageable.class));
+    assertThat(checkpoint.getCompleted()).isTrue();
+  }
+
+  @Test
+  void run_WhenChunkHitsVersionConflict_ShouldRetryChunk() {
+    // Given - the first attempt loses to a concurrent payment and is rolled back
+    JobCheckpoint checkpoint = checkpointInProgress(42L);
+    LoanInstallment tenDaysLate = installment(50L, RUN_DATE.minusDays(10));
+    when(loanInstallmentRepository.findOverdueChunk(
+            any(LocalDateTime.class), eq(42L), eq(1), eq(0), any(Pageable.class)))
+        .thenThrow(new ObjectOptimisticLockingFailureException(LoanInstallment.class, 49L))
+        .thenReturn(List.of(tenDaysLate));
+
+    // When
+    job.run(RUN_DATE);
+
+    // Then
+    assertThat(tenDaysLate.getAccruedPenalty()).isEqualByComparingTo("10.00");
+    assertThat(checkpoint.getLastProcessedId()).isEqualTo(50L);
+    assertThat(checkpoint.getCompleted()).isTrue();
+  }
+
+  @Test
+  void run_WhenChunkKeepsConflicting_ShouldSkipOnlyThatChunk() {
+    // Given
+    properties.setChunkSize(1);
+    JobCheckpoint checkpoint = checkpointInProgress(42L);
+    LoanInstallment conflicting = installment(50L, RUN_DATE.minusDays(10));
+    LoanInstallment next = installment(51L, RUN_DATE.minusDays(5));
+    when(loanInstallmentRepository.findOverdueChunk(
+            any(LocalDateTime.class), eq(42L), eq(1), eq(0), any(Pageable.class)))
+        .thenThrow(
+            new ObjectOptimisticLockingFailureException(LoanInstallment.class, 50L),
+            new ObjectOptimisticLockingFailureException(LoanInstallment.class, 50L),
+            new ObjectOptimisticLockingFailureException(LoanInstallment.class, 50L))
+        .thenReturn(List.of(conflicting));
+    when(loanInstallmentRepository.findOverdueChunk(
+            any(LocalDateTime.class), eq(50L), eq(1), eq(0), any(Pageable.class)))
+        .thenReturn(List.of(next));
+    when(loanInstallmentRepository.findOverdueChunk(
+            any(LocalDateTime.class), eq(51L), eq(1), eq(0), any(Pageable.class)))
+        .thenReturn(List.of());
+
+    // When
+    job.run(RUN_DATE);
+
+    // Then - the conflicting chunk is walked past, the following one still accrues
+    assertThat(conflicting.getAccruedPenalty()).isNull();
+    assertThat(next.getAccruedPenalty()).isEqualByComparingTo("5.00");
+    assertThat(checkpoint.getLastProcessedId()).isEqualTo(51L);
+    assertThat(checkpoint.getCompleted()).isTrue();
+  }
+
+  private JobCheckpoint checkpointInProgress(Long lastProcessedId) {
+    JobCheckpoint checkpoint = new JobCheckpoint();
+    checkpoint.setRunDate(RUN_DATE);
+    checkpoint.setPartitionCount(1);
+    checkpoint.setLastProcessedId(lastProcessedId);
+    checkpoint.setCompleted(false);
+    when(jobCheckpointRepository.findByJobNameAndPartitionNo("penalty-accrual", 0))
+        .thenReturn(Optional.of(checkpoint));
+    return checkpoint;
+  }
+
+  private LoanInstallment installment(Long id, LocalDate dueDate) {
+    LoanInstallment installment = new LoanInstallment();
+    installment.setId(id);
+    installment.setAmount(BigDecimal.valueOf(1000));
+    installment.setDueDate(dueDate.atStartOfDay());
+    installment.setIsPaid(false);
+    return installment;
+  }
+}
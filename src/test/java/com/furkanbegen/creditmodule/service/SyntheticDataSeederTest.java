@@ -0,0 +1,79 @@
+package com.furkanbegen.creditmodule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.furkanbegen.creditmodule.service.impl.SyntheticDataSeeder;
+import com.furkanbegen.creditmodule.service.impl.SyntheticDataSeeder.SeedSummary;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {"app.seed.synthetic.batch-size=20", "spring.jpa.show-sql=false"})
+class SyntheticDataSeederTest {
+
+  @Autowired private SyntheticDataSeeder syntheticDataSeeder;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void seed_ShouldWriteConsistentCustomersLoansAndInstallments() {
+    // When
+    SeedSummary summary = syntheticDataSeeder.seed("seedertest", 50, 3);
+
+    // Then
+    assertThat(syntheticDataSeeder.isSeeded("seedertest")).isTrue();
+    assertThat(count("SELECT COUNT(*) FROM users WHERE email LIKE 'seedertest-%'")).isEqualTo(50);
+    assertThat(count(seededLoans("SELECT COUNT(*)"))).isEqualTo(summary.loans());
+    assertThat(
+            count(
+                "SELECT COUNT(*) FROM loan_installments i JOIN loans l ON l.id = i.loan_id"
+                    + " JOIN customers c ON c.id = l.customer_id"
+                    + " JOIN users u ON u.id = c.user_id WHERE u.email LIKE 'seedertest-%'"))
+        .isEqualTo(summary.installments());
+
+    // Used credit covers exactly the unpaid loans
+    BigDecimal usedCredit =
+        jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(c.used_credit_limit), 0) FROM customers c"
+                + " JOIN users u ON u.id = c.user_id WHERE u.email LIKE 'seedertest-%'",
+            BigDecimal.class);
+    BigDecimal unpaidLoans =
+        jdbcTemplate.queryForObject(
+            seededLoans("SELECT COALESCE(SUM(l.loan_amount), 0)") + " AND l.is_paid = false",
+            BigDecimal.class);
+    assertThat(usedCredit).isEqualByComparingTo(unpaidLoans);
+
+    // Every loan has a ledger: one CREATED event and one settlement per paid installment
+    assertThat(count(seededEvents("CREATED"))).isEqualTo(summary.loans());
+    assertThat(count(seededEvents("INSTALLMENT_SETTLED")))
+        .isEqualTo(
+            count(
+                seededLoans("SELECT COUNT(*)")
+                        .replace(
+                            " FROM loans l",
+                            " FROM loan_installments i JOIN loans l ON l.id = i.loan_id")
+                    + " AND i.is_paid = true"));
+    assertThat(count(seededEvents("PAYOFF")))
+        .isEqualTo(count(seededLoans("SELECT COUNT(*)") + " AND l.is_paid = true"));
+  }
+
+  private long count(String sql) {
+    return jdbcTemplate.queryForObject(sql, Long.class);
+  }
+
+  private static String seededEvents(String eventType) {
+    return seededLoans("SELECT COUNT(*)")
+            .replace(" FROM loans l", " FROM loan_events e JOIN loans l ON l.id = e.loan_id")
+        + " AND e.event_type = '"
+        + eventType
+        + "'";
+  }
+
+  private static String seededLoans(String select) {
+    return select
+        + " FROM loans l JOIN customers c ON c.id = l.customer_id"
+        + " JOIN users u ON u.id = c.user_id WHERE u.email LIKE 'seedertest-%'";
+  }
+}